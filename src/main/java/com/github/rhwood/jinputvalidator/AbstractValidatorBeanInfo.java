@@ -6,33 +6,63 @@ import java.beans.IntrospectionException;
 import java.beans.MethodDescriptor;
 import java.beans.PropertyChangeListener;
 import java.beans.SimpleBeanInfo;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.swing.InputVerifier;
 import javax.swing.JComponent;
 
+/**
+ * Common descriptors for the BeanInfo of each validator.
+ * <p>
+ * Building descriptors uses reflection, so each BeanInfo builds its
+ * descriptors once, when the class is loaded, and shares them with every
+ * instance. The arrays returned by the getters are copies, but the
+ * descriptors in them are shared and must not be modified.
+ *
+ * @author Randall Wood
+ */
 // package private
 @SuppressWarnings("java:S115") // static names include names of methods
 class AbstractValidatorBeanInfo extends SimpleBeanInfo {
 
-    private static final String ICON_NAME_COLOR_16 = "resources/clipboard-check.png";
-    private static final String ICON_NAME_COLOR_32 = "resources/clipboard-check@2x.png";
+    private static final String ICON_NAME_COLOR_16 = "clipboard-check.png";
+    private static final String ICON_NAME_COLOR_32 = "clipboard-check@2x.png";
+
+    // Number of descriptor arrays built using reflection, for testing
+    static final AtomicInteger BUILDS = new AtomicInteger();
+
+    // Icons, created once
+    private static final Map<String, Image> ICONS = new ConcurrentHashMap<>();
 
     // EventSet identifiers
     private static final int EVENT_propertyChangeListener = 0;
+    private static final int EVENT_validationListener = 1;
 
     // EventSet array
     /* lazy EventSetDescriptor */
 
     private static EventSetDescriptor[] getEventSetDescriptor() {
-        EventSetDescriptor[] eventSets = new EventSetDescriptor[1];
+        BUILDS.incrementAndGet();
+        EventSetDescriptor[] eventSets = new EventSetDescriptor[2];
 
         try {
             eventSets[EVENT_propertyChangeListener] = new EventSetDescriptor(PredicateValidator.class,
                     "propertyChangeListener", PropertyChangeListener.class, new String[] { "propertyChange" },
                     "addPropertyChangeListener", "removePropertyChangeListener");
-        } catch (IntrospectionException e) {
+            // ValidationListener methods are not single event argument methods, so use Method objects
+            eventSets[EVENT_validationListener] = new EventSetDescriptor("validationListener",
+                    ValidationListener.class,
+                    new Method[] { ValidationListener.class.getMethod("validationChanged", Validation.Type.class,
+                            Validation.Type.class, JInputValidator.class) },
+                    JInputValidator.class.getMethod("addValidationListener", ValidationListener.class),
+                    JInputValidator.class.getMethod("removeValidationListener", ValidationListener.class),
+                    JInputValidator.class.getMethod("getValidationListeners"));
+        } catch (IntrospectionException | NoSuchMethodException e) {
             Logger.getLogger(JInputValidatorBeanInfo.class.getName()).log(Level.SEVERE, e.getMessage(), e);
         }
 
@@ -47,11 +77,15 @@ class AbstractValidatorBeanInfo extends SimpleBeanInfo {
     private static final int METHOD_shouldYieldFocus4 = 4;
     private static final int METHOD_verify5 = 5;
     private static final int METHOD_verifyTarget6 = 6;
+    private static final int METHOD_addValidationListener7 = 7;
+    private static final int METHOD_getValidationListeners8 = 8;
+    private static final int METHOD_removeValidationListener9 = 9;
 
     // Method array
     /* lazy MethodDescriptor */
     private static MethodDescriptor[] getMethodDescriptor() {
-        MethodDescriptor[] methods = new MethodDescriptor[7];
+        BUILDS.incrementAndGet();
+        MethodDescriptor[] methods = new MethodDescriptor[10];
 
         try {
             methods[METHOD_addPropertyChangeListener0] = new MethodDescriptor(JInputValidator.class
@@ -74,6 +108,15 @@ class AbstractValidatorBeanInfo extends SimpleBeanInfo {
             methods[METHOD_verifyTarget6] = new MethodDescriptor(
                     InputVerifier.class.getMethod("verifyTarget", JComponent.class));
             methods[METHOD_verifyTarget6].setDisplayName("");
+            methods[METHOD_addValidationListener7] = new MethodDescriptor(
+                    JInputValidator.class.getMethod("addValidationListener", ValidationListener.class));
+            methods[METHOD_addValidationListener7].setDisplayName("");
+            methods[METHOD_getValidationListeners8] = new MethodDescriptor(
+                    JInputValidator.class.getMethod("getValidationListeners"));
+            methods[METHOD_getValidationListeners8].setDisplayName("");
+            methods[METHOD_removeValidationListener9] = new MethodDescriptor(
+                    JInputValidator.class.getMethod("removeValidationListener", ValidationListener.class));
+            methods[METHOD_removeValidationListener9].setDisplayName("");
         } catch (Exception e) {
             Logger.getLogger(JInputValidatorBeanInfo.class.getName()).log(Level.SEVERE, e.getMessage(), e);
         }
@@ -81,6 +124,10 @@ class AbstractValidatorBeanInfo extends SimpleBeanInfo {
         return methods;
     }
 
+    // Descriptors, built once since building them uses reflection
+    private static final EventSetDescriptor[] EVENT_SETS = getEventSetDescriptor();
+    private static final MethodDescriptor[] METHODS = getMethodDescriptor();
+
     /**
      * Gets the bean's <code>EventSetDescriptor</code>s.
      *
@@ -90,7 +137,7 @@ class AbstractValidatorBeanInfo extends SimpleBeanInfo {
      */
     @Override
     public EventSetDescriptor[] getEventSetDescriptors() {
-        return getEventSetDescriptor();
+        return EVENT_SETS.clone();
     }
 
     /**
@@ -102,7 +149,7 @@ class AbstractValidatorBeanInfo extends SimpleBeanInfo {
      */
     @Override
     public MethodDescriptor[] getMethodDescriptors() {
-        return getMethodDescriptor();
+        return METHODS.clone();
     }
 
     /**
@@ -131,12 +178,23 @@ class AbstractValidatorBeanInfo extends SimpleBeanInfo {
         switch (iconKind) {
             case ICON_COLOR_16x16:
             case ICON_MONO_16x16:
-                return Toolkit.getDefaultToolkit().createImage(this.getClass().getResource(ICON_NAME_COLOR_16));
+                return getIcon(ICON_NAME_COLOR_16);
             case ICON_COLOR_32x32:
             case ICON_MONO_32x32:
-                return Toolkit.getDefaultToolkit().createImage(this.getClass().getResource(ICON_NAME_COLOR_32));
+                return getIcon(ICON_NAME_COLOR_32);
             default:
                 return null;
         }
     }
+
+    /**
+     * Get an icon, creating the image when first requested.
+     *
+     * @param name the resource name of the icon
+     * @return the shared image
+     */
+    private static Image getIcon(String name) {
+        return ICONS.computeIfAbsent(name,
+                n -> Toolkit.getDefaultToolkit().createImage(AbstractValidatorBeanInfo.class.getResource(n)));
+    }
 }
@@ -0,0 +1,325 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.text.JTextComponent;
+
+/**
+ * A {@link PredicateValidator} that tests the predicate on an
+ * {@link java.util.concurrent.Executor} instead of the Event Dispatch Thread.
+ * <p>
+ * When the text changes, the text is copied on the Event Dispatch Thread and
+ * the predicate is tested against that copy on the executor. While the result
+ * is pending, the validation is the pending validation, which by default has
+ * the type {@link Validation.Type#UNKNOWN}. Results for text that has changed
+ * since the predicate was tested are discarded, so only the result for the
+ * latest text is displayed.
+ * <p>
+ * Since {@link Validation.Type#UNKNOWN} is a valid state,
+ * {@link #verify(javax.swing.JComponent)} returns {@code true} while a result
+ * is pending. If a predicate throws an exception, the exception is logged and
+ * the pending validation is retained.
+ *
+ * @author Randall Wood
+ */
+public class AsyncPredicateValidator extends PredicateValidator {
+
+    /**
+     * The executor the predicate is tested on. (f for "field" to avoid
+     * conflict with parameter name)
+     */
+    private final Executor fExecutor;
+    /**
+     * The validation to use while a result is pending; if null a validation
+     * of type {@link Validation.Type#UNKNOWN} with the tool tip text is used.
+     */
+    private Validation pendingValidation = null;
+    /**
+     * The generation of the latest requested test; incremented on the Event
+     * Dispatch Thread for every new test so stale results can be discarded.
+     */
+    private int generation = 0;
+    /**
+     * The text being tested or null if no result is pending.
+     */
+    private String pendingText = null;
+    /**
+     * The text of the latest result or null if there is no result.
+     */
+    private String resultText = null;
+    /**
+     * The latest result or null if there is no result. The result is kept,
+     * rather than its validation, so it is displayed with the preferences
+     * current when displayed.
+     */
+    private RuleResult result = null;
+
+    /**
+     * Create an AsyncPredicateValidator with a valid {@link Validation} of
+     * type {@link Validation.Type#NONE}, validation on every input, and
+     * default preferences.
+     *
+     * @param component the component to verify; must not be null
+     * @param predicate the predicate to use; must not be null
+     * @param invalid   the validation to use when the
+     *                  {@link Predicate#test(java.lang.Object)}
+     *                  method of the predicate returns false
+     * @param executor  the executor to test the predicate on; must not be
+     *                  null
+     */
+    public AsyncPredicateValidator(
+        final JComponent component,
+        final Predicate<String> predicate,
+        final Validation invalid,
+        final Executor executor) {
+        this(
+            component,
+            predicate,
+            invalid,
+            null,
+            true,
+            executor,
+            JInputValidatorPreferences.getPreferences());
+    }
+
+    /**
+     * Create an AsyncPredicateValidator with a valid {@link Validation} of
+     * type {@link Validation.Type#NONE}, validation on every input, and
+     * default preferences that tests the predicate on the
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param component the component to verify; must not be null
+     * @param predicate the predicate to use; must not be null
+     * @param invalid   the validation to use when the
+     *                  {@link Predicate#test(java.lang.Object)}
+     *                  method of the predicate returns false
+     */
+    public AsyncPredicateValidator(
+        final JComponent component,
+        final Predicate<String> predicate,
+        final Validation invalid) {
+        this(component, predicate, invalid, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create an AsyncPredicateValidator.
+     *
+     * @param component   the component to verify; must not be null
+     * @param predicate   the predicate to use; must not be null
+     * @param invalid     the validation to use when the
+     *                    {@link Predicate#test(java.lang.Object)}
+     *                    method of the predicate returns false; must not be
+     *                    null
+     * @param valid       the validation to use when the
+     *                    {@link Predicate#test(java.lang.Object)}
+     *                    method of the predicate returns true; may be null
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param executor    the executor to test the predicate on; must not be
+     *                    null
+     * @param preferences the preferences to use to draw the validation icons;
+     *                    must not be null
+     */
+    public AsyncPredicateValidator(
+        final JComponent component,
+        final Predicate<String> predicate,
+        final Validation invalid,
+        final Validation valid,
+        final boolean onInput,
+        final Executor executor,
+        final JInputValidatorPreferences preferences) {
+        super(
+            component,
+            predicate,
+            invalid,
+            valid,
+            onInput,
+            true,
+            preferences);
+        this.fExecutor = executor;
+    }
+
+    /**
+     * Get the validation used while a result is pending.
+     *
+     * @return the pending validation or null if a validation of type
+     *         {@link Validation.Type#UNKNOWN} with the tool tip text is used
+     */
+    public Validation getPendingValidation() {
+        return pendingValidation;
+    }
+
+    /**
+     * Set the validation used while a result is pending.
+     *
+     * @param validation the pending validation or null to use a validation of
+     *                   type {@link Validation.Type#UNKNOWN} with the tool tip
+     *                   text
+     */
+    public void setPendingValidation(final Validation validation) {
+        pendingValidation = validation;
+    }
+
+    /**
+     * Check if a result is pending.
+     *
+     * @return {@code true} if the predicate is being tested; {@code false}
+     *         otherwise
+     */
+    public boolean isPending() {
+        return pendingText != null;
+    }
+
+    /**
+     * Get the validation for the current text. If a result for the current
+     * text is known, that result is returned, otherwise the predicate is
+     * tested on the executor and the pending validation is returned. If the
+     * executor rejects the test, the predicate is tested on the calling
+     * thread.
+     *
+     * @param input       the component to verify
+     * @param preferences preferences to apply to Validation
+     * @return the Validation for the current result or the pending validation
+     */
+    @Override
+    protected Validation getValidation(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        if (!(input instanceof JTextComponent)) {
+            return getNoneValidation();
+        }
+        String text = ((JTextComponent) input).getText();
+        if (text.equals(pendingText)) {
+            return getPendingValidation(preferences);
+        }
+        // invalidate any pending result since the text has changed
+        final int current = ++generation;
+        if (text.equals(resultText)) {
+            pendingText = null;
+            return toValidation(result, preferences);
+        }
+        try {
+            fExecutor.execute(() -> evaluate(text, current));
+        } catch (RejectedExecutionException ex) {
+            Logger.getLogger(AsyncPredicateValidator.class.getName()).log(
+                Level.WARNING,
+                "Unable to validate asynchronously",
+                ex);
+            pendingText = null;
+            return getValidation(text, preferences);
+        }
+        pendingText = text;
+        return getPendingValidation(preferences);
+    }
+
+    /**
+     * Get a task that tests the predicate against a copy of the current text.
+     * Since the validation determined by the task is displayed in place of
+     * any pending result, any pending result is discarded, so a result that
+     * completes after the task cannot replace the validation of the task.
+     *
+     * @param input       the component to verify
+     * @param preferences preferences to apply to Validation
+     * @return a task returning the Validation for the current text
+     */
+    @Override
+    protected Supplier<Validation> getValidationTask(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        if (!(input instanceof JTextComponent)) {
+            return super.getValidationTask(input, preferences);
+        }
+        String text = ((JTextComponent) input).getText();
+        generation++;
+        pendingText = null;
+        if (text.equals(resultText)) {
+            Validation known = toValidation(result, preferences);
+            return () -> known;
+        }
+        return () -> getValidation(text, preferences);
+    }
+
+    /**
+     * Test the predicate and publish the result on the Event Dispatch Thread.
+     *
+     * @param text    the text to test
+     * @param current the generation of the test
+     */
+    private void evaluate(final String text, final int current) {
+        RuleResult r = null;
+        try {
+            r = apply(text);
+        } catch (RuntimeException ex) {
+            Logger.getLogger(AsyncPredicateValidator.class.getName()).log(
+                Level.SEVERE,
+                "Unable to validate input",
+                ex);
+        }
+        final RuleResult completed = r;
+        SwingUtilities.invokeLater(() -> complete(text, completed, current));
+    }
+
+    /**
+     * Display a result if it is the result for the latest text.
+     *
+     * @param text      the text tested
+     * @param completed the result or null if testing failed
+     * @param current   the generation of the test
+     */
+    private void complete(
+        final String text,
+        final RuleResult completed,
+        final int current) {
+        if (current != generation) {
+            // discard stale result
+            return;
+        }
+        pendingText = null;
+        if (completed != null) {
+            resultText = text;
+            result = completed;
+            setValidation(toValidation(completed, getPreferences()));
+        }
+    }
+
+    /**
+     * Get the validation to use while a result is pending.
+     *
+     * @param preferences preferences to apply to Validation
+     * @return the pending validation
+     */
+    private Validation getPendingValidation(
+        final JInputValidatorPreferences preferences) {
+        if (pendingValidation != null) {
+            return Validation.of(pendingValidation, preferences);
+        }
+        return Validation.of(Type.UNKNOWN, getToolTipText(), preferences);
+    }
+}
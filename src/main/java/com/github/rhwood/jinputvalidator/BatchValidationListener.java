@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.util.EventListener;
+
+/**
+ * A listener for changes to the validations of all {@link JInputValidator}s,
+ * notified once with all changes made in one cycle of the
+ * {@link ValidationScheduler}, so a summary of thousands of validators can
+ * be updated once per cycle instead of once per validator.
+ * <p>
+ * Changes made outside of a scheduler cycle, for example when focus changes,
+ * are delivered as they are made.
+ *
+ * @author Randall Wood
+ * @see ValidationScheduler#addBatchValidationListener(BatchValidationListener)
+ */
+@FunctionalInterface
+public interface BatchValidationListener extends EventListener {
+
+    /**
+     * Called on the Event Dispatch Thread with the changes made to
+     * validations. The changes are only valid for the duration of this call,
+     * and must not be retained.
+     *
+     * @param changes the changes, in the order made
+     */
+    void validationsChanged(ValidationChanges changes);
+}
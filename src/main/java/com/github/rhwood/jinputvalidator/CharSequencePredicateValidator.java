@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.rule.Rule;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.JComponent;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+/**
+ * A {@link JInputValidator} that uses a standard
+ * {@link java.util.function.Predicate} for a CharSequence to toggle a
+ * valid/invalid state. This only works against subclasses of
+ * {@link JTextComponent}.
+ * <p>
+ * Unlike {@link PredicateValidator}, the text is not copied into a String for
+ * the predicate; the predicate is passed a view of the text in the document
+ * that is only valid for the duration of the call to
+ * {@link Predicate#test(java.lang.Object)}, and must not be retained by the
+ * predicate. This makes validating large documents, such as the contents of a
+ * {@link javax.swing.JTextArea}, possible without allocating a copy of the
+ * document on every change.
+ * <p>
+ * This is a {@link RuleValidator} using a rule created with
+ * {@link Rule#of(java.util.function.Predicate, RuleResult, RuleResult)}; the
+ * rule is applied to a copy of the text only when validating off the event
+ * dispatch thread.
+ *
+ * @author Randall Wood
+ */
+public class CharSequencePredicateValidator extends RuleValidator {
+
+    /**
+     * The predicate to use. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private final Predicate<CharSequence> fPredicate;
+    /**
+     * The result to use when the predicate returns true. (f for "field"
+     * to avoid conflict with parameter name)
+     */
+    private final RuleResult fValid;
+    /**
+     * The result to use when the predicate returns false. (f for "field"
+     * to avoid conflict with parameter name)
+     */
+    private final RuleResult fInvalid;
+    /**
+     * The reusable view of the document text.
+     */
+    private final DocumentCharSequence text = new DocumentCharSequence();
+
+    /**
+     * Create a CharSequencePredicateValidator with a valid
+     * {@link Validation} of type {@link Validation.Type#NONE}, validation on
+     * every input, {@link javax.swing.InputVerifier#verify(JComponent)}
+     * returning true or false, and default preferences.
+     *
+     * @param component the component to verify; must not be null
+     * @param predicate the predicate to use; must not be null
+     * @param invalid   the validation to use when the
+     *                  {@link Predicate#test(java.lang.Object)}
+     *                  method of the predicate returns false
+     */
+    public CharSequencePredicateValidator(
+        final JComponent component,
+        final Predicate<CharSequence> predicate,
+        final Validation invalid) {
+        this(component, predicate, invalid, true, true);
+    }
+
+    /**
+     * Create a CharSequencePredicateValidator with a valid
+     * {@link Validation} of type {@link Validation.Type#NONE} and default
+     * preferences.
+     *
+     * @param component   the component to verify; must not be null
+     * @param predicate   the predicate to use; must not be null
+     * @param invalid     the validation to use when the
+     *                    {@link Predicate#test(java.lang.Object)}
+     *                    method of the predicate returns false
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per
+     *                    {@link javax.swing.InputVerifier#verify(JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     */
+    public CharSequencePredicateValidator(
+        final JComponent component,
+        final Predicate<CharSequence> predicate,
+        final Validation invalid,
+        final boolean onInput,
+        final boolean isVerifying) {
+        this(
+            component,
+            predicate,
+            invalid,
+            null,
+            onInput,
+            isVerifying,
+            JInputValidatorPreferences.getPreferences());
+    }
+
+    /**
+     * Create a CharSequencePredicateValidator.
+     *
+     * @param component   the component to verify; must not be null
+     * @param predicate   the predicate to use; must not be null
+     * @param invalid     the validation to use when the
+     *                    {@link Predicate#test(java.lang.Object)}
+     *                    method of the predicate returns false; must not be
+     *                    null
+     * @param valid       the validation to use when the
+     *                    {@link Predicate#test(java.lang.Object)}
+     *                    method of the predicate returns true; may be null
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per
+     *                    {@link javax.swing.InputVerifier#verify(JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     * @param preferences the preferences to use to draw the validation icons;
+     *                    must not be null
+     */
+    public CharSequencePredicateValidator(
+        final JComponent component,
+        final Predicate<CharSequence> predicate,
+        final Validation invalid,
+        final Validation valid,
+        final boolean onInput,
+        final boolean isVerifying,
+        final JInputValidatorPreferences preferences) {
+        this(
+            component,
+            predicate,
+            PredicateValidator.toResult(invalid),
+            PredicateValidator.toResult(valid),
+            onInput,
+            isVerifying,
+            preferences);
+    }
+
+    /**
+     * Create a CharSequencePredicateValidator.
+     *
+     * @param component   the component to verify; must not be null
+     * @param predicate   the predicate to use; must not be null
+     * @param invalid     the result when the predicate returns false; must
+     *                    not be null
+     * @param valid       the result when the predicate returns true; must
+     *                    not be null
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per
+     *                    {@link javax.swing.InputVerifier#verify(JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     * @param preferences the preferences to use to draw the validation icons;
+     *                    must not be null
+     */
+    private CharSequencePredicateValidator(
+        final JComponent component,
+        final Predicate<CharSequence> predicate,
+        final RuleResult invalid,
+        final RuleResult valid,
+        final boolean onInput,
+        final boolean isVerifying,
+        final JInputValidatorPreferences preferences) {
+        super(
+            component,
+            Rule.of(predicate, valid, invalid),
+            onInput,
+            isVerifying,
+            preferences);
+        this.fPredicate = predicate;
+        this.fInvalid = invalid;
+        this.fValid = valid;
+    }
+
+    /**
+     * Get the validation for the result of testing the text of the document
+     * with the predicate, without copying the text. If input is not a
+     * subclass of {@link JTextComponent}; no validation is performed.
+     *
+     * @param input       the component to verify
+     * @param preferences preferences to apply to Validation
+     * @return the Validation for the valid or invalid states as appropriate
+     */
+    @Override
+    protected Validation getValidation(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        if (input instanceof JTextComponent) {
+            Document document = ((JTextComponent) input).getDocument();
+            if (document != null) {
+                return toValidation(test(document), preferences);
+            }
+        }
+        return getNoneValidation();
+    }
+
+    /**
+     * Test the text of a document with the predicate, holding a read lock on
+     * the document if possible so the document is not changed while being
+     * tested.
+     *
+     * @param document the document to test
+     * @return the result for the valid or invalid states as appropriate,
+     *         or the invalid result if the document could not be read
+     */
+    private RuleResult test(final Document document) {
+        AbstractDocument locked = null;
+        if (document instanceof AbstractDocument) {
+            locked = (AbstractDocument) document;
+            locked.readLock();
+        }
+        try {
+            text.setDocument(document);
+            if (fPredicate.test(text)) {
+                return fValid;
+            }
+            return fInvalid;
+        } catch (BadLocationException ex) {
+            // not expected since the document length is used
+            Logger.getLogger(CharSequencePredicateValidator.class.getName())
+                .log(Level.SEVERE, "Unable to read document", ex);
+            return fInvalid;
+        } finally {
+            text.clear();
+            if (locked != null) {
+                locked.readUnlock();
+            }
+        }
+    }
+}
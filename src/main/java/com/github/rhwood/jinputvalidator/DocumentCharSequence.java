@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.util.Arrays;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+/**
+ * A {@link CharSequence} view of the text of a {@link Document} that does not
+ * copy the text. The view is backed by the {@link Segment}s returned by
+ * {@link Document#getText(int, int, javax.swing.text.Segment)} with partial
+ * returns enabled, so it is only valid while the document is not modified.
+ * <p>
+ * A single instance can be reused for any number of documents; once the
+ * storage for the segments has grown to fit a document, reading that
+ * document again does not allocate any memory.
+ *
+ * @author Randall Wood
+ */
+final class DocumentCharSequence implements CharSequence {
+
+    /**
+     * The segment used to read the document.
+     */
+    private final Segment segment = new Segment();
+    /**
+     * The arrays backing each segment.
+     */
+    private char[][] arrays = new char[2][];
+    /**
+     * The offset of each segment in its array.
+     */
+    private int[] offsets = new int[2];
+    /**
+     * The number of characters in each segment.
+     */
+    private int[] counts = new int[2];
+    /**
+     * The index in this sequence of the first character of each segment.
+     */
+    private int[] starts = new int[2];
+    /**
+     * The number of segments.
+     */
+    private int size = 0;
+    /**
+     * The number of characters in this sequence.
+     */
+    private int length = 0;
+    /**
+     * The segment containing the last character read.
+     */
+    private int last = 0;
+
+    /**
+     * Create an empty DocumentCharSequence.
+     */
+    DocumentCharSequence() {
+        segment.setPartialReturn(true);
+    }
+
+    /**
+     * Set the document viewed by this sequence. The caller is responsible
+     * for ensuring the document is not modified while this view is in use,
+     * for example by holding a read lock on the document.
+     *
+     * @param document the document to view; must not be null
+     * @throws BadLocationException if the document cannot be read
+     */
+    void setDocument(final Document document) throws BadLocationException {
+        clear();
+        int total = document.getLength();
+        int offset = 0;
+        while (offset < total) {
+            document.getText(offset, total - offset, segment);
+            if (segment.count <= 0) {
+                break;
+            }
+            add(offset);
+            offset += segment.count;
+        }
+        length = offset;
+    }
+
+    /**
+     * Release the document viewed by this sequence, leaving this sequence
+     * empty.
+     */
+    void clear() {
+        Arrays.fill(arrays, 0, size, null);
+        segment.array = null;
+        size = 0;
+        length = 0;
+        last = 0;
+    }
+
+    /**
+     * Add the current segment to this sequence.
+     *
+     * @param start the index in this sequence of the segment
+     */
+    private void add(final int start) {
+        if (size == arrays.length) {
+            int capacity = size * 2;
+            arrays = Arrays.copyOf(arrays, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+        }
+        arrays[size] = segment.array;
+        offsets[size] = segment.offset;
+        counts[size] = segment.count;
+        starts[size] = start;
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "index " + index + ", length " + length);
+        }
+        int i = last;
+        if (index < starts[i] || index >= starts[i] + counts[i]) {
+            i = 0;
+            while (index >= starts[i] + counts[i]) {
+                i++;
+            }
+            last = i;
+        }
+        return arrays[i][offsets[i] + index - starts[i]];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned sequence is a copy and remains valid after the document
+     * is modified.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(
+                "start " + start + ", end " + end + ", length " + length);
+        }
+        return new StringBuilder(end - start).append(this, start, end)
+            .toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned String is a copy of the viewed text.
+     */
+    @Override
+    public String toString() {
+        char[] text = new char[length];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(arrays[i], offsets[i], text, starts[i], counts[i]);
+        }
+        return new String(text);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.UIManager;
+
+/**
+ * A process-wide cache of the fonts used to draw validation icons, keyed by
+ * the resource path of the font. Each font is read and parsed once, when
+ * first needed or when preloaded on a background thread. Fonts that cannot be
+ * loaded are not cached, so the fallback font used in their place follows
+ * the current look and feel.
+ *
+ * @author Randall Wood
+ */
+final class FontCache {
+
+    /**
+     * The loaded fonts.
+     */
+    private static final ConcurrentHashMap<String, Font> FONTS =
+        new ConcurrentHashMap<>();
+
+    private FontCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Get a font, loading it if needed.
+     * <p>
+     * <strong>Note</strong> if the requested font is not available, this
+     * will log, but not throw, an error and use the default label font of
+     * the current look and feel.
+     *
+     * @param path the path to the font that can be loaded using
+     *             {@link java.lang.Class#getResourceAsStream(java.lang.String)}
+     * @return the font
+     */
+    static Font getFont(final String path) {
+        Font font = FONTS.get(path);
+        if (font == null) {
+            font = FONTS.computeIfAbsent(path, FontCache::load);
+        }
+        if (font == null) {
+            font = UIManager.getFont("Label.font");
+        }
+        if (font == null) {
+            font = Font.decode(null);
+        }
+        return font;
+    }
+
+    /**
+     * Load a font on a background thread if not already loaded.
+     *
+     * @param path the path to the font
+     * @return a future completed with the font once loaded
+     */
+    static CompletableFuture<Font> preload(final String path) {
+        Font font = FONTS.get(path);
+        if (font != null) {
+            return CompletableFuture.completedFuture(font);
+        }
+        return CompletableFuture.supplyAsync(() -> getFont(path));
+    }
+
+    /**
+     * Check if a font is loaded.
+     *
+     * @param path the path to the font
+     * @return {@code true} if loaded; {@code false} otherwise
+     */
+    static boolean isLoaded(final String path) {
+        return FONTS.containsKey(path);
+    }
+
+    /**
+     * Read and parse a font.
+     *
+     * @param path the path to the font
+     * @return the font or null if the font cannot be loaded
+     */
+    private static Font load(final String path) {
+        try (InputStream stream =
+            FontCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IOException("No resource " + path);
+            }
+            return Font.createFont(Font.TRUETYPE_FONT, stream);
+        } catch (FontFormatException | IOException ex) {
+            Logger.getLogger(JInputValidatorPreferences.class.getName()).log(
+                Level.SEVERE,
+                ex,
+                () -> String.format(
+                    "Unable to get Font resource named %s",
+                    path));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.JComponent;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+/**
+ * A {@link JInputValidator} that maintains its own state from the changes
+ * made to the document of a {@link JTextComponent}, so that validating a
+ * change is proportional to the size of the change, not the size of the
+ * document.
+ * <p>
+ * Subclasses keep running state (such as counters, parse state, or bracket
+ * depth) that is built by {@link #reset(javax.swing.text.Document)} from the
+ * whole document, updated by
+ * {@link #insertUpdate(javax.swing.text.Document, int, int)} and
+ * {@link #removeUpdate(javax.swing.text.Document, int, int)} as the document
+ * changes, and converted into a validation by
+ * {@link #getStateValidation(JInputValidatorPreferences)}. If an update
+ * cannot be applied incrementally, the update method returns {@code false}
+ * and the state is rebuilt from the whole document before the next
+ * validation. The state is also rebuilt when the document of the component is
+ * replaced.
+ * <p>
+ * Changes are tracked even when not validating on every change to input, so
+ * the state is current when validating on focus changes.
+ * <p>
+ * The update methods are called on the thread that changed the document,
+ * which may not be the Event Dispatch Thread, while it holds the write lock
+ * of the document. The update methods, {@link #reset(Document)}, and
+ * {@link #getStateValidation(JInputValidatorPreferences)} are all called
+ * while synchronized on this validator, and the state is built and converted
+ * into a validation while holding the read lock of an
+ * {@link AbstractDocument}, so subclasses do not need to synchronize access
+ * to their state. Subclasses that synchronize on this validator must not
+ * lock the document while doing so.
+ *
+ * @author Randall Wood
+ */
+public abstract class IncrementalValidator extends JInputValidator {
+
+    /**
+     * The document the state was built from. Guarded by this.
+     */
+    private Document stateDocument = null;
+    /**
+     * Flag indicating the state must be rebuilt from the whole document.
+     * Guarded by this.
+     */
+    private boolean stale = true;
+
+    /**
+     * Create an IncrementalValidator with the default preferences that
+     * validates on every change to input.
+     *
+     * @param component the component to attach the validator to; must not be
+     *                  null
+     */
+    protected IncrementalValidator(final JComponent component) {
+        super(component);
+    }
+
+    /**
+     * Create an IncrementalValidator with the default preferences.
+     *
+     * @param component   the component to attach the validator to; must not be
+     *                    null
+     * @param onInput     {@code true} if validator to validate on all input;
+     *                    {@code false} to validate only on focus change
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per {@link #verify(javax.swing.JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     */
+    protected IncrementalValidator(
+        final JComponent component,
+        final boolean onInput,
+        final boolean isVerifying) {
+        super(component, onInput, isVerifying);
+    }
+
+    /**
+     * Create an IncrementalValidator with custom preferences.
+     *
+     * @param component   the component to attach the validator to; must not be
+     *                    null
+     * @param onInput     {@code true} if validator to validate on all input;
+     *                    {@code false} to validate only on focus change
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per {@link #verify(javax.swing.JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     * @param preferences the custom preferences; must not be null
+     */
+    protected IncrementalValidator(
+        final JComponent component,
+        final boolean onInput,
+        final boolean isVerifying,
+        final JInputValidatorPreferences preferences) {
+        super(component, onInput, isVerifying, preferences);
+    }
+
+    /**
+     * Build the state from the whole document.
+     *
+     * @param document the document to build the state from; must not be null
+     * @throws BadLocationException if the document cannot be read
+     */
+    protected abstract void reset(Document document)
+        throws BadLocationException;
+
+    /**
+     * Update the state for text inserted into the document. The inserted text
+     * can be read from the document.
+     *
+     * @param document the document text was inserted into
+     * @param offset   the offset of the inserted text
+     * @param length   the length of the inserted text
+     * @return {@code true} if the state was updated; {@code false} if the
+     *         state needs to be rebuilt from the whole document
+     */
+    protected abstract boolean insertUpdate(
+        Document document,
+        int offset,
+        int length);
+
+    /**
+     * Update the state for text removed from the document. The removed text
+     * is no longer in the document, so implementations that need the removed
+     * text to update the state should return {@code false}.
+     *
+     * @param document the document text was removed from
+     * @param offset   the offset of the removed text
+     * @param length   the length of the removed text
+     * @return {@code true} if the state was updated; {@code false} if the
+     *         state needs to be rebuilt from the whole document
+     */
+    protected abstract boolean removeUpdate(
+        Document document,
+        int offset,
+        int length);
+
+    /**
+     * Get the validation for the current state.
+     *
+     * @param preferences preferences to use for creating the validation
+     * @return the validation for the current state; must never be null
+     */
+    protected abstract Validation getStateValidation(
+        JInputValidatorPreferences preferences);
+
+    /**
+     * Get the validation for the current state, rebuilding the state from the
+     * whole document if needed. If input is not a subclass of
+     * {@link JTextComponent}; no validation is performed.
+     *
+     * @param input       the component to get the state of
+     * @param preferences preferences to use for creating the validation
+     * @return the validation for the current state
+     */
+    @Override
+    protected final Validation getValidation(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        if (!(input instanceof JTextComponent)) {
+            return getNoneValidation();
+        }
+        Document document = ((JTextComponent) input).getDocument();
+        if (document == null) {
+            return getNoneValidation();
+        }
+        // lock the document before this to match the order of changes
+        AbstractDocument locked = null;
+        if (document instanceof AbstractDocument) {
+            locked = (AbstractDocument) document;
+            locked.readLock();
+        }
+        try {
+            return getValidation(document, preferences);
+        } finally {
+            if (locked != null) {
+                locked.readUnlock();
+            }
+        }
+    }
+
+    /**
+     * Get the validation for the current state, rebuilding the state from
+     * the whole document if needed.
+     *
+     * @param document    the document of the component
+     * @param preferences preferences to use for creating the validation
+     * @return the validation for the current state
+     */
+    private synchronized Validation getValidation(
+        final Document document,
+        final JInputValidatorPreferences preferences) {
+        if (stale || document != stateDocument) {
+            try {
+                reset(document);
+            } catch (BadLocationException ex) {
+                Logger.getLogger(IncrementalValidator.class.getName()).log(
+                    Level.SEVERE,
+                    "Unable to read document",
+                    ex);
+                stale = true;
+                return getNoneValidation();
+            }
+            stateDocument = document;
+            stale = false;
+        }
+        return getStateValidation(preferences);
+    }
+
+    /**
+     * Check if the state needs to be rebuilt from the whole document before
+     * the next validation.
+     *
+     * @return {@code true} if the state will be rebuilt; {@code false}
+     *         otherwise
+     */
+    protected synchronized boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    final synchronized void documentChanged(final DocumentEvent e) {
+        if (stale || e.getDocument() != stateDocument) {
+            // state will be rebuilt anyway
+            return;
+        }
+        DocumentEvent.EventType type = e.getType();
+        Document document = e.getDocument();
+        boolean updated = true;
+        if (type == DocumentEvent.EventType.INSERT) {
+            updated = insertUpdate(document, e.getOffset(), e.getLength());
+        } else if (type == DocumentEvent.EventType.REMOVE) {
+            updated = removeUpdate(document, e.getOffset(), e.getLength());
+        }
+        stale = !updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    final synchronized void documentReplaced(final Document document) {
+        stale = true;
+    }
+}
@@ -16,19 +16,35 @@
 package com.github.rhwood.jinputvalidator;
 
 import com.github.rhwood.jinputvalidator.Validation.Type;
+import com.github.rhwood.jinputvalidator.border.IconSpaceBorder;
+import com.github.rhwood.jinputvalidator.border.ValidationLayerUI;
 import com.github.rhwood.jinputvalidator.border.ValidatorBorder;
 
+import java.awt.Font;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import javax.swing.BorderFactory;
 import javax.swing.InputVerifier;
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.Border;
-import javax.swing.event.ChangeEvent;
-import javax.swing.event.ChangeListener;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.event.EventListenerList;
 import javax.swing.text.Document;
 import javax.swing.text.JTextComponent;
 
@@ -42,6 +58,21 @@ import javax.swing.text.JTextComponent;
  */
 public abstract class JInputValidator extends InputVerifier {
 
+    /**
+     * The validators using the default preferences, which are updated when
+     * the default preferences are replaced.
+     */
+    private static final Set<JInputValidator> DEFAULT_VALIDATORS =
+        Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        JInputValidatorPreferences.addDefaultPreferencesListener(evt ->
+            SwingUtilities.invokeLater(() -> defaultPreferencesChanged(
+                (JInputValidatorPreferences) evt.getOldValue(),
+                (JInputValidatorPreferences) evt.getNewValue())));
+    }
+
     /**
      * The border without validation indicators.
      */
@@ -50,10 +81,33 @@ public abstract class JInputValidator extends InputVerifier {
      * The tool tip text without validation indicators.
      */
     private String originalToolTipText = null;
+    /**
+     * The listener creating a deferred validation message when the tool tip
+     * may be shown, if any validation message has been deferred.
+     */
+    private MessageResolver messageResolver = null;
+    /**
+     * Flag indicating the tool tip is a placeholder for a validation message
+     * that has not been created.
+     */
+    private boolean messagePending = false;
+    /**
+     * The Validation with type NONE for the original tool tip text.
+     */
+    private volatile Validation noneValidation = null;
     /**
      * The PropertyChangeSupport for this validator.
      */
     private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    /**
+     * The ValidationListeners for this validator.
+     */
+    private final EventListenerList listenerList = new EventListenerList();
+    /**
+     * The scheduler notified of validation changes.
+     */
+    private final ValidationScheduler scheduler =
+        ValidationScheduler.getScheduler();
     /**
      * The current validation state of the component being validated.
      */
@@ -62,10 +116,18 @@ public abstract class JInputValidator extends InputVerifier {
      * The previous validation state of the component being validated.
      */
     private Validation oldValidation;
+    /**
+     * The overlay drawing the validation icon, if any.
+     */
+    private ValidationLayerUI overlay = null;
+    /**
+     * The border reserving space for the validation icon, if reserving space.
+     */
+    private IconSpaceBorder iconSpaceBorder = null;
     /**
      * The preferences used by this validator.
      */
-    private final JInputValidatorPreferences fPreferences;
+    private volatile JInputValidatorPreferences fPreferences;
     /**
      * The component being validated. (f for "field" to avoid name clash with
      * parameters)
@@ -81,6 +143,21 @@ public abstract class JInputValidator extends InputVerifier {
      * (f for "field" to avoid name clash with parameters)
      */
     private boolean fIsVerifying;
+    /**
+     * Flag indicating if this validator validates on every change to input.
+     * (f for "field" to avoid name clash with parameters)
+     */
+    private final boolean fOnInput;
+    /**
+     * The quiet period in milliseconds after the last change to input before
+     * validating. Volatile since read by threads changing the document.
+     */
+    private volatile int debounceDelay;
+    /**
+     * The maximum interval in milliseconds between changes to input in a
+     * burst. Volatile since read by threads changing the document.
+     */
+    private volatile int debounceBurst;
 
     /**
      * Create a JInputValidator with the default preferences. The validator
@@ -142,15 +219,81 @@ public abstract class JInputValidator extends InputVerifier {
         this.fComponent = component;
         originalBorder = this.fComponent.getBorder();
         originalToolTipText = this.fComponent.getToolTipText();
-        if (onInput && this.fComponent instanceof JTextComponent) {
-            addChangeListener(
-                (JTextComponent) this.fComponent,
-                e -> verify(this.fComponent));
+        debounceDelay = preferences.getDebounceDelay();
+        debounceBurst = preferences.getDebounceBurst();
+        this.fOnInput = onInput;
+        if (this.fComponent instanceof JTextComponent) {
+            addDocumentListener((JTextComponent) this.fComponent);
         }
         this.fPreferences = preferences;
         this.fIsVerifying = isVerifying;
         validation = getNoneValidation();
         oldValidation = getNoneValidation();
+        if (JInputValidatorPreferences.isDefault(preferences)) {
+            DEFAULT_VALIDATORS.add(this);
+        }
+    }
+
+    /**
+     * Update the validators using the default preferences when the default
+     * preferences are replaced. This must be called on the Event Dispatch
+     * Thread.
+     *
+     * @param oldPreferences the replaced preferences
+     * @param newPreferences the new preferences
+     */
+    private static void defaultPreferencesChanged(
+        final JInputValidatorPreferences oldPreferences,
+        final JInputValidatorPreferences newPreferences) {
+        List<JInputValidator> validators;
+        synchronized (DEFAULT_VALIDATORS) {
+            validators = new ArrayList<>(DEFAULT_VALIDATORS);
+        }
+        ValidatorBorder.clearCache();
+        for (JInputValidator validator : validators) {
+            validator.preferencesChanged(oldPreferences, newPreferences);
+        }
+    }
+
+    /**
+     * Use new preferences in place of the preferences used by this validator.
+     * The validated component is only redrawn if the current validation is
+     * drawn differently with the new preferences, and the debounce settings
+     * are only changed if not changed from the replaced preferences.
+     *
+     * @param oldPreferences the replaced preferences
+     * @param newPreferences the new preferences
+     */
+    private void preferencesChanged(
+        final JInputValidatorPreferences oldPreferences,
+        final JInputValidatorPreferences newPreferences) {
+        if (fPreferences != oldPreferences) {
+            return;
+        }
+        fPreferences = newPreferences;
+        if (debounceDelay == oldPreferences.getDebounceDelay()) {
+            debounceDelay = newPreferences.getDebounceDelay();
+        }
+        if (debounceBurst == oldPreferences.getDebounceBurst()) {
+            debounceBurst = newPreferences.getDebounceBurst();
+        }
+        noneValidation = null;
+        oldValidation = Validation.of(oldValidation, newPreferences);
+        validation = Validation.of(validation, newPreferences);
+        Type type = validation.getType();
+        if (overlay != null) {
+            overlay.setValidation(fComponent, validation);
+        } else if (iconSpaceBorder != null) {
+            // reserved space depends on the icons for all types
+            iconSpaceBorder = createIconSpaceBorder();
+            showBorder(fComponent);
+            fComponent.revalidate();
+        } else if (type != Type.NONE
+            && !newPreferences.isDrawnSame(oldPreferences, type)) {
+            showBorder(fComponent);
+            fComponent.revalidate();
+            fComponent.repaint();
+        }
     }
 
     /**
@@ -176,6 +319,56 @@ public abstract class JInputValidator extends InputVerifier {
         return fIsVerifying;
     }
 
+    /**
+     * Set the quiet period after the last change to input before validating
+     * when validating on input. When set, a series of changes less than the
+     * delay apart are validated once after the last change. Defaults to
+     * {@link JInputValidatorPreferences#getDebounceDelay()}.
+     *
+     * @param delay the delay in milliseconds; {@code 0} to validate on every
+     *              change
+     */
+    public void setDebounceDelay(final int delay) {
+        debounceDelay = delay;
+    }
+
+    /**
+     * Get the quiet period after the last change to input before validating
+     * when validating on input.
+     *
+     * @return the delay in milliseconds; {@code 0} if validating on every
+     *         change
+     */
+    public int getDebounceDelay() {
+        return debounceDelay;
+    }
+
+    /**
+     * Set the maximum interval between changes to input for those changes to
+     * be considered a burst when validating on input. The first change in a
+     * burst is validated immediately, but following changes are validated
+     * once after the burst ends. This allows bursts of input, such as from a
+     * barcode scanner, to be validated once even when
+     * {@link #getDebounceDelay()} is {@code 0}. Defaults to
+     * {@link JInputValidatorPreferences#getDebounceBurst()}.
+     *
+     * @param interval the interval in milliseconds; {@code 0} to not detect
+     *                 bursts
+     */
+    public void setDebounceBurst(final int interval) {
+        debounceBurst = interval;
+    }
+
+    /**
+     * Get the maximum interval between changes to input for those changes to
+     * be considered a burst when validating on input.
+     *
+     * @return the interval in milliseconds; {@code 0} if not detecting bursts
+     */
+    public int getDebounceBurst() {
+        return debounceBurst;
+    }
+
     /**
      * Set the tool tip text used when the validation state is
      * {@link Validation.Type#NONE}. If the validation state is NONE when
@@ -222,6 +415,49 @@ public abstract class JInputValidator extends InputVerifier {
         JComponent input,
         JInputValidatorPreferences preferences);
 
+    /**
+     * Get a task that determines the validation for the current state of the
+     * input component. This is called on the Event Dispatch Thread, and
+     * should capture the state of the input component, so that the returned
+     * task can be run on any thread without accessing the component. This is
+     * used to validate many components in parallel.
+     * <p>
+     * This implementation determines the validation when called, so only the
+     * returned task, which returns that validation, can be run off the Event
+     * Dispatch Thread. Subclasses that can determine the validation from a
+     * copy of the component state should override this.
+     *
+     * @param input       the component to get the state of
+     * @param preferences preferences to use for creating the validation
+     * @return a task returning the validation for the current state; must
+     *         never be null
+     */
+    protected Supplier<Validation> getValidationTask(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        Validation current = getValidation(input, preferences);
+        return () -> current;
+    }
+
+    /**
+     * Get the preferences used by this validator.
+     *
+     * @return the preferences
+     */
+    JInputValidatorPreferences getPreferences() {
+        return fPreferences;
+    }
+
+    /**
+     * Get a task that determines the validation for the current state of the
+     * validated component. This must be called on the Event Dispatch Thread.
+     *
+     * @return a task returning the validation for the current state
+     */
+    Supplier<Validation> getValidationTask() {
+        return getValidationTask(fComponent, fPreferences);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -237,28 +473,244 @@ public abstract class JInputValidator extends InputVerifier {
      */
     @Override
     public boolean verify(final JComponent input) {
+        update(input, getValidation(input, fPreferences));
+        if (fIsVerifying) {
+            // WARNING or DANGER are false, all others are true
+            return validation.getType() != Type.WARNING
+                && validation.getType() != Type.DANGER;
+        }
+        return true;
+    }
+
+    /**
+     * Set the current validation, redrawing the validated component if the
+     * validation changed. This allows subclasses that determine the validation
+     * state outside of {@link #verify(javax.swing.JComponent)}, for example on
+     * a background thread, to publish that state. This must be called on the
+     * Event Dispatch Thread.
+     *
+     * @param newValidation the new validation; must not be null
+     */
+    protected final void setValidation(final Validation newValidation) {
+        update(fComponent, newValidation);
+    }
+
+    /**
+     * Set the current validation and redraw the input if the validation
+     * changed.
+     *
+     * @param input         the component to redraw
+     * @param newValidation the new validation
+     */
+    private void update(
+        final JComponent input,
+        final Validation newValidation) {
         oldValidation = validation;
-        validation = getValidation(input, fPreferences);
+        validation = newValidation;
         if (!inVerifyMethod && !validation.equals(oldValidation)) {
             inVerifyMethod = true;
-            if (validation.getType() == Type.NONE) {
-                input.setBorder(originalBorder);
-                input.setToolTipText(originalToolTipText);
-            } else {
-                input.setBorder(
-                    new ValidatorBorder(validation, originalBorder));
-                input.setToolTipText(validation.getMessage());
+            try {
+                showToolTip(input);
+                if (overlay != null) {
+                    overlay.setValidation(input, validation);
+                } else if (iconSpaceBorder != null) {
+                    iconSpaceBorder.setValidation(validation);
+                    iconSpaceBorder.repaintIcon(input);
+                } else {
+                    showBorder(input);
+                    input.validate();
+                }
+                fireValidationChanged();
+            } finally {
+                inVerifyMethod = false;
             }
-            input.validate();
+        }
+    }
+
+    /**
+     * Notify listeners that the validation changed. The property change event
+     * is only created if there are listeners for it. The
+     * {@link ValidationListener}s and the scheduler are only notified if the
+     * type changed.
+     */
+    private void fireValidationChanged() {
+        if (pcs.hasListeners("validation")) {
             pcs.firePropertyChange("validation", oldValidation, validation);
-            inVerifyMethod = false;
         }
-        if (fIsVerifying) {
-            // WARNING or DANGER are false, all others are true
-            return validation.getType() != Type.WARNING
-                && validation.getType() != Type.DANGER;
+        Type oldType = oldValidation.getType();
+        Type newType = validation.getType();
+        if (oldType == newType) {
+            return;
         }
-        return true;
+        Object[] listeners = listenerList.getListenerList();
+        // notify in the order added
+        for (int i = 0; i < listeners.length; i += 2) {
+            if (listeners[i] == ValidationListener.class) {
+                ((ValidationListener) listeners[i + 1])
+                    .validationChanged(oldType, newType, this);
+            }
+        }
+        scheduler.validationChanged(this, oldType, newType);
+    }
+
+    /**
+     * Set the tool tip of the input for the current validation. If the
+     * validation message has not been created, the tool tip is set to a
+     * placeholder, so the {@link javax.swing.ToolTipManager} tracks the input,
+     * and the message is created when the mouse enters the input or the input
+     * gains focus. A localized message is also formatted again at that time
+     * if the locale of messages has changed.
+     *
+     * @param input the component to set the tool tip of
+     */
+    private void showToolTip(final JComponent input) {
+        messagePending = false;
+        if (validation.getType() == Type.NONE) {
+            input.setToolTipText(originalToolTipText);
+            return;
+        }
+        if (validation.getMessageSupplier() != null
+            && messageResolver == null) {
+            messageResolver = new MessageResolver();
+            input.addMouseListener(messageResolver);
+            input.addFocusListener(messageResolver);
+        }
+        if (validation.isMessageResolved()) {
+            input.setToolTipText(validation.getMessage());
+        } else {
+            messagePending = true;
+            input.setToolTipText("");
+        }
+    }
+
+    /**
+     * Check if the tool tip of the validated component is a placeholder for
+     * a validation message that has not been created.
+     *
+     * @return {@code true} if the message is pending; {@code false} otherwise
+     */
+    boolean isMessagePending() {
+        return messagePending;
+    }
+
+    /**
+     * Set the border of the input for the current validation.
+     *
+     * @param input the component to set the border of
+     */
+    private void showBorder(final JComponent input) {
+        if (overlay != null) {
+            overlay.setValidation(input, validation);
+            input.setBorder(originalBorder);
+        } else if (iconSpaceBorder != null) {
+            iconSpaceBorder.setValidation(validation);
+            input.setBorder(iconSpaceBorder);
+        } else if (validation.getType() == Type.NONE) {
+            input.setBorder(originalBorder);
+        } else {
+            input.setBorder(ValidatorBorder.getBorder(
+                validation,
+                originalBorder,
+                getFontSize(input)));
+        }
+    }
+
+    /**
+     * Set if space for the validation icon is always reserved in the border
+     * of the validated component. When reserved, the insets of the border do
+     * not change with the validation, so changing the validation only
+     * repaints the icon instead of laying out the component and its container
+     * again. This is useful in forms with many validated components, at the
+     * cost of the space for the icon being empty when there is no icon.
+     * Defaults to {@code false}.
+     *
+     * @param reserved {@code true} to always reserve space for the icon;
+     *                 {@code false} to only add space for the icon when
+     *                 showing an icon
+     */
+    public void setIconSpaceReserved(final boolean reserved) {
+        if (reserved == (iconSpaceBorder != null)) {
+            return;
+        }
+        if (reserved) {
+            iconSpaceBorder = createIconSpaceBorder();
+        } else {
+            iconSpaceBorder = null;
+        }
+        showBorder(fComponent);
+        fComponent.revalidate();
+    }
+
+    /**
+     * Set the overlay that draws the validation icon over the validated
+     * component instead of replacing the border of the component. The
+     * validated component must be within the {@link javax.swing.JLayer} using
+     * the overlay for the icon to be drawn. While an overlay is set, space is
+     * not reserved for the icon even if
+     * {@link #setIconSpaceReserved(boolean)} is set.
+     *
+     * @param ui the overlay or null to draw the icon in the border of the
+     *           component
+     */
+    public void setOverlay(final ValidationLayerUI ui) {
+        if (ui == overlay) {
+            return;
+        }
+        if (overlay != null) {
+            overlay.setValidation(fComponent, null);
+        }
+        overlay = ui;
+        showBorder(fComponent);
+        fComponent.revalidate();
+    }
+
+    /**
+     * Get the overlay that draws the validation icon over the validated
+     * component.
+     *
+     * @return the overlay or null if the icon is drawn in the border of the
+     *         component
+     */
+    public ValidationLayerUI getOverlay() {
+        return overlay;
+    }
+
+    /**
+     * Check if space for the validation icon is always reserved in the border
+     * of the validated component.
+     *
+     * @return {@code true} if space is always reserved; {@code false}
+     *         otherwise
+     */
+    public boolean isIconSpaceReserved() {
+        return iconSpaceBorder != null;
+    }
+
+    /**
+     * Create a border reserving space for the validation icon.
+     *
+     * @return the border
+     */
+    private IconSpaceBorder createIconSpaceBorder() {
+        Border original = originalBorder;
+        if (original == null) {
+            original = BorderFactory.createEmptyBorder();
+        }
+        return new IconSpaceBorder(original, fPreferences);
+    }
+
+    /**
+     * Get the font size of a component.
+     *
+     * @param input the component
+     * @return the font size or 0 if the component has no font
+     */
+    private static int getFontSize(final JComponent input) {
+        Font font = input.getFont();
+        if (font == null) {
+            return 0;
+        }
+        return font.getSize();
     }
 
     /**
@@ -301,15 +753,23 @@ public abstract class JInputValidator extends InputVerifier {
     }
 
     /**
-     * Create a Validation with type {@link Type#NONE} and with the contents of
+     * Get a Validation with type {@link Type#NONE} and with the contents of
      * {@link #getToolTipText()} as the message. Note that the message of a
      * Validation with Type.NONE is not used internally, but this allows a
      * listener to get a Validation with the default tool tip text.
+     * <p>
+     * The same Validation is returned until the tool tip text changes.
      *
-     * @return a new Validation with Type.NONE
+     * @return a Validation with Type.NONE
      */
     public final Validation getNoneValidation() {
-        return new Validation(Type.NONE, getToolTipText(), fPreferences);
+        Validation none = noneValidation;
+        String toolTipText = getToolTipText();
+        if (none == null || !Objects.equals(none.getMessage(), toolTipText)) {
+            none = new Validation(Type.NONE, toolTipText, fPreferences);
+            noneValidation = none;
+        }
+        return none;
     }
 
     /**
@@ -378,12 +838,108 @@ public abstract class JInputValidator extends InputVerifier {
         return pcs.getPropertyChangeListeners(propertyName);
     }
 
-    private void addChangeListener(
-        final JTextComponent component,
-        final ChangeListener changeListener) {
+    /**
+     * Add a {@link ValidationListener} notified when the type of the
+     * validation changes.
+     *
+     * @param listener the listener to add
+     */
+    public void addValidationListener(final ValidationListener listener) {
+        listenerList.add(ValidationListener.class, listener);
+    }
+
+    /**
+     * Remove a {@link ValidationListener}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeValidationListener(final ValidationListener listener) {
+        listenerList.remove(ValidationListener.class, listener);
+    }
+
+    /**
+     * Get the {@link ValidationListener}s.
+     *
+     * @return the listeners
+     */
+    public ValidationListener[] getValidationListeners() {
+        return listenerList.getListeners(ValidationListener.class);
+    }
+
+    /**
+     * Called when the document of the validated component changes, before
+     * validation is scheduled. This is called even if this validator does not
+     * validate on every change to input.
+     * <p>
+     * This is called on the thread that changed the document, which may not
+     * be the Event Dispatch Thread, while that thread holds the write lock of
+     * the document, so the document cannot change again until this returns.
+     *
+     * @param e the event describing the change
+     */
+    void documentChanged(final DocumentEvent e) {
+        // nothing to do by default
+    }
+
+    /**
+     * Called when the document of the validated component is replaced, before
+     * validation is scheduled. This is called even if this validator does not
+     * validate on every change to input.
+     *
+     * @param document the new document; may be null
+     */
+    void documentReplaced(final Document document) {
+        // nothing to do by default
+    }
+
+    /**
+     * Listen to changes in the document of a text component, scheduling
+     * validation with the {@link ValidationScheduler} on every change if
+     * validating on input. Documents notify listeners on the thread changing
+     * the document, so the debounce state of the listener is synchronized and
+     * validation itself is always performed on the Event Dispatch Thread by
+     * the scheduler or debounce timer.
+     *
+     * @param component the component to listen to
+     */
+    private void addDocumentListener(final JTextComponent component) {
         DocumentListener listener = new DocumentListener() {
-            private int lastChange = 0;
-            private int lastNotifiedChange = 0;
+            private long lastChangeTime = 0;
+            private final Timer timer = new Timer(
+                0,
+                e -> scheduler.schedule(JInputValidator.this));
+
+            {
+                timer.setRepeats(false);
+            }
+
+            /**
+             * Schedule validation of a change, immediately or after a delay
+             * if more changes may follow. Synchronized since changes may be
+             * made on any thread.
+             *
+             * @param replaced {@code true} if the document was replaced
+             */
+            private synchronized void debounce(final boolean replaced) {
+                long now = System.nanoTime();
+                long elapsed = now - lastChangeTime;
+                lastChangeTime = now;
+                int delay = debounceDelay;
+                if (replaced) {
+                    // document replaced, so validate immediately
+                    delay = 0;
+                } else if (delay <= 0
+                    && debounceBurst > 0
+                    && elapsed < TimeUnit.MILLISECONDS.toNanos(debounceBurst)) {
+                    delay = debounceBurst;
+                }
+                if (delay > 0) {
+                    timer.setInitialDelay(delay);
+                    timer.restart();
+                } else {
+                    scheduler.schedule(JInputValidator.this);
+                }
+            }
 
             /**
              * {@inheritDoc}
@@ -406,14 +962,13 @@ public abstract class JInputValidator extends InputVerifier {
              */
             @Override
             public void changedUpdate(final DocumentEvent e) {
-                lastChange++;
-                SwingUtilities.invokeLater(() -> {
-                    if (lastNotifiedChange != lastChange) {
-                        lastNotifiedChange = lastChange;
-                        changeListener
-                            .stateChanged(new ChangeEvent(component));
-                    }
-                });
+                if (e != null) {
+                    documentChanged(e);
+                }
+                if (!fOnInput) {
+                    return;
+                }
+                debounce(e == null);
             }
         };
         component.addPropertyChangeListener("document", e -> {
@@ -425,6 +980,7 @@ public abstract class JInputValidator extends InputVerifier {
             if (newDocument != null) {
                 newDocument.addDocumentListener(listener);
             }
+            documentReplaced(newDocument);
             listener.changedUpdate(null);
         });
         Document document = component.getDocument();
@@ -432,4 +988,55 @@ public abstract class JInputValidator extends InputVerifier {
             document.addDocumentListener(listener);
         }
     }
+
+    /**
+     * Creates a deferred validation message for the tool tip of the validated
+     * component when the tool tip may be shown. The
+     * {@link javax.swing.ToolTipManager} gets the tool tip text when it
+     * shows the tool tip, after the mouse has rested on the component, so
+     * setting the text when the mouse enters is soon enough.
+     */
+    private final class MessageResolver extends MouseAdapter
+        implements FocusListener {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void mouseEntered(final MouseEvent e) {
+            resolve();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void focusGained(final FocusEvent e) {
+            resolve();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void focusLost(final FocusEvent e) {
+            // nothing to do
+        }
+
+        /**
+         * Replace the placeholder or outdated tool tip with the validation
+         * message.
+         */
+        private void resolve() {
+            if (validation.getType() == Type.NONE
+                || validation.getMessageSupplier() == null) {
+                return;
+            }
+            messagePending = false;
+            String message = validation.getMessage();
+            if (!Objects.equals(message, fComponent.getToolTipText())) {
+                fComponent.setToolTipText(message);
+            }
+        }
+    }
 }
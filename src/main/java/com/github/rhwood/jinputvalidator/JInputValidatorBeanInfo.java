@@ -36,6 +36,7 @@ public class JInputValidatorBeanInfo extends AbstractValidatorBeanInfo {
     // Bean descriptor
     /* lazy BeanDescriptor */
     private static BeanDescriptor getBdescriptor() {
+        BUILDS.incrementAndGet();
         return new BeanDescriptor(JInputValidator.class, null);
     }
 
@@ -47,6 +48,7 @@ public class JInputValidatorBeanInfo extends AbstractValidatorBeanInfo {
     // Property array
     /* lazy PropertyDescriptor */
     private static PropertyDescriptor[] getPdescriptor() {
+        BUILDS.incrementAndGet();
         PropertyDescriptor[] properties = new PropertyDescriptor[3];
 
         try {
@@ -64,6 +66,10 @@ public class JInputValidatorBeanInfo extends AbstractValidatorBeanInfo {
         return properties;
     }
 
+    // Descriptors, built once since building them uses reflection
+    private static final BeanDescriptor BEAN_DESCRIPTOR = getBdescriptor();
+    private static final PropertyDescriptor[] PROPERTIES = getPdescriptor();
+
     /**
      * Construct a {@code JInputValidatorBeanInfo }
      */
@@ -80,7 +86,7 @@ public class JInputValidatorBeanInfo extends AbstractValidatorBeanInfo {
      */
     @Override
     public BeanDescriptor getBeanDescriptor() {
-        return getBdescriptor();
+        return BEAN_DESCRIPTOR;
     }
 
     /**
@@ -98,7 +104,7 @@ public class JInputValidatorBeanInfo extends AbstractValidatorBeanInfo {
      */
     @Override
     public PropertyDescriptor[] getPropertyDescriptors() {
-        return getPdescriptor();
+        return PROPERTIES.clone();
     }
 
 }
@@ -15,15 +15,27 @@
  */
 package com.github.rhwood.jinputvalidator;
 
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.SystemColor;
-import java.io.IOException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.prefs.PreferenceChangeEvent;
 import java.util.prefs.Preferences;
-import javax.swing.JLabel;
 
 /**
  * Preferences for a JInputValidator. By default the preferences are pulled from
@@ -58,7 +70,19 @@ import javax.swing.JLabel;
  * {@link Validation.Type#DANGER}</dd>
  * <dt>danger.color (int)</dt>
  * <dd>The color that represents {@link Validation.Type#DANGER}</dd>
+ * <dt>debounce.delay (int)</dt>
+ * <dd>The quiet period in milliseconds after the last change to input before
+ * validating; {@code 0} to validate on every change</dd>
+ * <dt>debounce.burst (int)</dt>
+ * <dd>The maximum interval in milliseconds between changes to input for the
+ * changes to be considered a burst (such as input from a barcode scanner)
+ * that is validated once when the burst ends; {@code 0} to not detect
+ * bursts</dd>
  * </dl>
+ * <p>
+ * Preferences can also be read from {@link java.util.Properties} with the
+ * same keys using {@link #getPreferences(java.util.Properties)}. A
+ * JInputValidatorPreferences object is immutable.
  *
  * @author Randall Wood
  */
@@ -84,19 +108,67 @@ public final class JInputValidatorPreferences {
      * Default color for {@link Validation.Type#WARNING} as HTML color code.
      */
     public static final int DEFAULT_WARNING_COLOR = 0xF0AB00;
+    /**
+     * Default quiet period in milliseconds before validating input.
+     */
+    public static final int DEFAULT_DEBOUNCE_DELAY = 0;
+    /**
+     * Default maximum interval in milliseconds between changes in a burst of
+     * input.
+     */
+    public static final int DEFAULT_DEBOUNCE_BURST = 0;
     /**
      * Path to default font.
      */
     private static final String DEFAULT_FONT_PATH =
         "/com/github/rhwood/jinputvalidator/Font Awesome 5 Free-Solid-900.otf";
+    /**
+     * The property name for replacement of the default preferences.
+     */
+    private static final String PREFERENCES = "preferences";
     /**
      * The default preferences instance.
      */
-    private static JInputValidatorPreferences defaultPreferences = null;
+    private static final AtomicReference<JInputValidatorPreferences> DEFAULT =
+        new AtomicReference<>();
+    /**
+     * The listeners for replacement of the default preferences.
+     */
+    private static final PropertyChangeSupport PCS =
+        new PropertyChangeSupport(JInputValidatorPreferences.class);
+    /**
+     * The Preferences nodes listened to for changes.
+     */
+    private static final Set<Preferences> LISTENED =
+        Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    /**
+     * The maximum number of shared validations for a set of preferences.
+     */
+    private static final int MAX_VALIDATIONS = 1024;
+    /**
+     * The shared validations with deferred messages using these preferences.
+     */
+    private final ConcurrentHashMap<RuleResult, Validation> validations =
+        new ConcurrentHashMap<>();
+    /**
+     * The shared validations with messages that are not deferred using these
+     * preferences, by the ordinal of their type.
+     */
+    private final SharedValidations[] messageValidations =
+        new SharedValidations[Validation.Type.values().length];
+    /**
+     * The number of shared validations with messages.
+     */
+    private final AtomicInteger sharedCount = new AtomicInteger();
+    /**
+     * The Preferences node these preferences are read from, if any.
+     */
+    private final Preferences source;
     /**
-     * The font used to display validation icons.
+     * The path to the font used to display validation icons.
      */
-    private final Font font;
+    private final String fontPath;
     /**
      * The icon for {@link Validation.Type#UNKNOWN}.
      */
@@ -137,79 +209,246 @@ public final class JInputValidatorPreferences {
      * The color for {@link Validation.Type#DANGER}.
      */
     private final Color dangerColor;
+    /**
+     * The quiet period in milliseconds before validating input.
+     */
+    private final int debounceDelay;
+    /**
+     * The maximum interval in milliseconds between changes in a burst.
+     */
+    private final int debounceBurst;
 
-    private JInputValidatorPreferences() {
-        this(Preferences.userNodeForPackage(JInputValidatorPreferences.class));
+    /**
+     * Create preferences.
+     *
+     * @param lookups the sources of values in the order they are read,
+     *                each returning null for keys without a value
+     * @param node    the Preferences node values are read from or null if
+     *                not read from a Preferences node
+     */
+    private JInputValidatorPreferences(
+        final List<Function<String, String>> lookups,
+        final Preferences node) {
+        source = node;
+        for (Validation.Type type : Validation.Type.values()) {
+            messageValidations[type.ordinal()] = new SharedValidations();
+        }
+        fontPath = get(lookups, "font", DEFAULT_FONT_PATH);
+        dangerIcon = get(lookups, "danger.icon", "\uf06a");
+        dangerColor = new Color(
+            getInt(lookups, "danger.color", DEFAULT_DANGER_COLOR));
+        informationIcon = get(lookups, "information.icon", "\uf05a");
+        informationColor = new Color(
+            getInt(lookups, "information.color", DEFAULT_INFORMATION_COLOR));
+        successIcon = get(lookups, "success.icon", "\uf058");
+        successColor = new Color(
+            getInt(lookups, "success.color", DEFAULT_SUCCESS_COLOR));
+        unknownIcon = get(lookups, "unknown.icon", "\uf059");
+        unknownColor = new Color(
+            getInt(lookups, "unknown.color", DEFAULT_UNKNOWN_COLOR));
+        warningIcon = get(lookups, "warning.icon", "\uf071");
+        warningColor = new Color(
+            getInt(lookups, "warning.color", DEFAULT_WARNING_COLOR));
+        debounceDelay = getInt(
+            lookups,
+            "debounce.delay",
+            DEFAULT_DEBOUNCE_DELAY);
+        debounceBurst = getInt(
+            lookups,
+            "debounce.burst",
+            DEFAULT_DEBOUNCE_BURST);
     }
 
+    /**
+     * Create preferences from a Preferences node, using the preferences for
+     * the package {@code com.github.rhwood.jinputvalidator} for keys not in
+     * the node. Each key is read once if the node is the package node.
+     *
+     * @param preferences the node
+     */
     private JInputValidatorPreferences(final Preferences preferences) {
-        Preferences defaults = Preferences.userNodeForPackage(
-            JInputValidatorPreferences.class);
-        String fontName = preferences.get(
-            "font",
-            defaults.get("font", DEFAULT_FONT_PATH));
-        Font f;
-        try {
-            f = Font.createFont(
-                Font.TRUETYPE_FONT,
-                JInputValidatorPreferences.class.getResourceAsStream(fontName));
-        } catch (FontFormatException | IOException ex) {
-            Logger.getLogger(JInputValidatorPreferences.class.getName()).log(
-                Level.SEVERE,
-                ex,
-                () -> String.format(
-                    "Unable to get Font resource named %s",
-                    fontName));
-            f = new JLabel().getFont();
+        this(getLookups(preferences), preferences);
+    }
+
+    /**
+     * Get the sources of values for a Preferences node: the node, then the
+     * preferences for the package {@code com.github.rhwood.jinputvalidator}
+     * if the node is not the package node.
+     *
+     * @param preferences the node
+     * @return the sources of values
+     */
+    private static List<Function<String, String>> getLookups(
+        final Preferences preferences) {
+        Preferences defaults = getDefaultNode();
+        if (defaults == preferences) {
+            return Collections.singletonList(key -> preferences.get(key, null));
+        }
+        return Arrays.asList(
+            key -> preferences.get(key, null),
+            key -> defaults.get(key, null));
+    }
+
+    /**
+     * Get a value from the first source with a value.
+     *
+     * @param lookups      the sources of values
+     * @param key          the key
+     * @param defaultValue the value if no source has a value for key
+     * @return the value
+     */
+    private static String get(
+        final List<Function<String, String>> lookups,
+        final String key,
+        final String defaultValue) {
+        for (Function<String, String> lookup : lookups) {
+            String value = lookup.apply(key);
+            if (value != null) {
+                return value;
+            }
         }
-        font = f;
-        dangerIcon = preferences.get(
-            "danger.icon",
-            defaults.get("danger.icon", "\uf06a"));
-        dangerColor = new Color(preferences.getInt(
-            "danger.color",
-            defaults.getInt("danger.color", DEFAULT_DANGER_COLOR)));
-        informationIcon = preferences.get(
-            "information.icon",
-            defaults.get("information.icon", "\uf05a"));
-        informationColor = new Color(preferences.getInt(
-            "information.color",
-            defaults.getInt("information.color", DEFAULT_INFORMATION_COLOR)));
-        successIcon = preferences.get(
-            "success.icon",
-            defaults.get("success.icon", "\uf058"));
-        successColor = new Color(preferences.getInt(
-            "success.color",
-            defaults.getInt("success.color", DEFAULT_SUCCESS_COLOR)));
-        unknownIcon = preferences.get(
-            "unknown.icon",
-            defaults.get("unknown.icon", "\uf059"));
-        unknownColor = new Color(preferences.getInt(
-            "unknown.color",
-            defaults.getInt("unknown.color", DEFAULT_UNKNOWN_COLOR)));
-        warningIcon = preferences.get(
-            "warning.icon",
-            defaults.get("warning.icon", "\uf071"));
-        warningColor = new Color(preferences.getInt(
-            "warning.color",
-            defaults.getInt("warning.color", DEFAULT_WARNING_COLOR)));
+        return defaultValue;
+    }
+
+    /**
+     * Get an integer value from the first source with an integer value. As
+     * with {@link Preferences#getInt(String, int)}, a value that is not an
+     * integer is ignored, so the next source is read.
+     *
+     * @param lookups      the sources of values
+     * @param key          the key
+     * @param defaultValue the value if no source has an integer value for
+     *                     key
+     * @return the value
+     */
+    private static int getInt(
+        final List<Function<String, String>> lookups,
+        final String key,
+        final int defaultValue) {
+        for (Function<String, String> lookup : lookups) {
+            String value = lookup.apply(key);
+            if (value != null) {
+                try {
+                    return Integer.parseInt(value);
+                } catch (NumberFormatException ex) {
+                    // try the next source
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Get the Preferences node for the package
+     * {@code com.github.rhwood.jinputvalidator}.
+     *
+     * @return the node
+     */
+    private static Preferences getDefaultNode() {
+        return Preferences.userNodeForPackage(JInputValidatorPreferences.class);
     }
 
     /**
      * Get the default preferences object. This object uses the default
      * {@link java.util.prefs.Preferences}, so application-wide defaults can be
-     * set by setting preferences keys appropriately before calling this method.
+     * set by setting preferences keys appropriately before calling this method,
+     * unless other default preferences have been set with
+     * {@link #setPreferences(JInputValidatorPreferences)}.
+     * <p>
+     * The default preferences are an immutable snapshot that is read without
+     * locking. When read from the default {@link java.util.prefs.Preferences},
+     * changes to those Preferences replace the snapshot; validators using the
+     * default preferences are redrawn with the new preferences. Listen for
+     * replacement using
+     * {@link #addDefaultPreferencesListener(PropertyChangeListener)}.
      *
-     * <strong>Note</strong> if the requested font is not available, this will
-     * log, but not throw, an error and use the default font.
+     * <strong>Note</strong> the font is not loaded until first used; see
+     * {@link #getFont()}.
      *
      * @return the default preferences
      */
-    public static synchronized JInputValidatorPreferences getPreferences() {
-        if (defaultPreferences == null) {
-            defaultPreferences = new JInputValidatorPreferences();
+    public static JInputValidatorPreferences getPreferences() {
+        JInputValidatorPreferences preferences = DEFAULT.get();
+        if (preferences == null) {
+            Preferences node = getDefaultNode();
+            if (DEFAULT.compareAndSet(
+                null,
+                new JInputValidatorPreferences(node))) {
+                listen(node);
+            }
+            preferences = DEFAULT.get();
         }
-        return defaultPreferences;
+        return preferences;
+    }
+
+    /**
+     * Replace the default preferences. Use this with preferences from
+     * {@link #getPreferences(Properties)} before creating any validators to
+     * avoid reading the platform {@link java.util.prefs.Preferences}.
+     * Validators using the default preferences are redrawn with the new
+     * preferences.
+     *
+     * @param preferences the new default preferences; must not be null
+     */
+    public static void setPreferences(
+        final JInputValidatorPreferences preferences) {
+        Objects.requireNonNull(preferences);
+        JInputValidatorPreferences old = DEFAULT.getAndSet(preferences);
+        if (old != preferences) {
+            PCS.firePropertyChange(PREFERENCES, old, preferences);
+        }
+    }
+
+    /**
+     * Rebuild the default preferences when the Preferences they were read
+     * from change.
+     *
+     * @param evt the change
+     */
+    private static void preferenceChanged(final PreferenceChangeEvent evt) {
+        JInputValidatorPreferences old = DEFAULT.get();
+        if (old != null && old.source == evt.getNode()) {
+            JInputValidatorPreferences preferences =
+                new JInputValidatorPreferences(evt.getNode());
+            if (DEFAULT.compareAndSet(old, preferences)) {
+                PCS.firePropertyChange(PREFERENCES, old, preferences);
+            }
+        }
+    }
+
+    /**
+     * Check if preferences are the default preferences.
+     *
+     * @param preferences the preferences to check
+     * @return {@code true} if preferences are the default preferences;
+     *         {@code false} otherwise
+     */
+    static boolean isDefault(final JInputValidatorPreferences preferences) {
+        return DEFAULT.get() == preferences;
+    }
+
+    /**
+     * Add a listener for replacement of the default preferences. The listener
+     * is notified with the property name {@code preferences} on the thread
+     * replacing the preferences, which is not the Event Dispatch Thread if
+     * the preferences are replaced by a change to the Preferences they were
+     * read from.
+     *
+     * @param listener the listener to add
+     */
+    public static void addDefaultPreferencesListener(
+        final PropertyChangeListener listener) {
+        PCS.addPropertyChangeListener(listener);
+    }
+
+    /**
+     * Remove a listener for replacement of the default preferences.
+     *
+     * @param listener the listener to remove
+     */
+    public static void removeDefaultPreferencesListener(
+        final PropertyChangeListener listener) {
+        PCS.removePropertyChangeListener(listener);
     }
 
     /**
@@ -217,8 +456,8 @@ public final class JInputValidatorPreferences {
      * object. The Preferences must contain those keys overriding defaults
      * listed above, but not necessarily within the package specified above.
      *
-     * <strong>Note</strong> if the requested font is not available, this will
-     * log, but not throw, an error and use the default font.
+     * <strong>Note</strong> the font is not loaded until first used; see
+     * {@link #getFont()}.
      *
      * @param preferences the preferences to use
      * @return the preferences for a specific scenario
@@ -229,12 +468,222 @@ public final class JInputValidatorPreferences {
     }
 
     /**
-     * Get the font to use.
+     * Get a set of preferences using {@link java.util.Properties}, for example
+     * loaded from a properties file. The Properties contain those keys
+     * listed above that override the defaults; unlike
+     * {@link #getPreferences(Preferences)}, the platform
+     * {@link java.util.prefs.Preferences} are not read.
+     *
+     * <strong>Note</strong> the font is not loaded until first used; see
+     * {@link #getFont()}.
+     *
+     * @param properties the properties to use
+     * @return the preferences for a specific scenario
+     */
+    public static JInputValidatorPreferences getPreferences(
+        final Properties properties) {
+        return getPreferences(
+            Collections.singletonList(properties::getProperty));
+    }
+
+    /**
+     * Get a set of preferences reading each key from sources in order. An
+     * integer value that cannot be parsed is ignored, so the next source is
+     * read.
+     *
+     * @param lookups the sources of values, each returning null for keys
+     *                without a value
+     * @return the preferences
+     */
+    static JInputValidatorPreferences getPreferences(
+        final List<Function<String, String>> lookups) {
+        return new JInputValidatorPreferences(lookups, null);
+    }
+
+    /**
+     * Replace the default preferences with preferences read from a
+     * Preferences node, which replace the default preferences again when the
+     * node changes, as the default preferences do for the package node.
+     *
+     * @param preferences the node; must not be null
+     */
+    static void setPreferences(final Preferences preferences) {
+        listen(preferences);
+        setPreferences(new JInputValidatorPreferences(preferences));
+    }
+
+    /**
+     * Listen for changes to a Preferences node, unless already listening.
+     *
+     * @param node the node
+     */
+    private static void listen(final Preferences node) {
+        if (LISTENED.add(node)) {
+            node.addPreferenceChangeListener(
+                JInputValidatorPreferences::preferenceChanged);
+        }
+    }
+
+    /**
+     * Check if validations of a type are drawn the same using these
+     * preferences and other preferences.
+     *
+     * @param other the other preferences
+     * @param type  the type
+     * @return {@code true} if the icon, color, and font for type are the
+     *         same; {@code false} otherwise
+     */
+    boolean isDrawnSame(
+        final JInputValidatorPreferences other,
+        final Validation.Type type) {
+        return fontPath.equals(other.fontPath)
+            && getIcon(type).equals(other.getIcon(type))
+            && getColor(type).equals(other.getColor(type));
+    }
+
+    /**
+     * Get the shared validation for a result using these preferences. Once
+     * {@link #MAX_VALIDATIONS} validations are shared, new validations are
+     * created for results without a shared validation.
+     *
+     * @param result the result
+     * @return the validation
+     */
+    Validation getValidation(final RuleResult result) {
+        if (result.getMessageSupplier() == null && result.getType() != null) {
+            return getValidation(
+                Validation.Type.of(result.getType()),
+                result.getMessage());
+        }
+        Validation validation = validations.get(result);
+        if (validation == null) {
+            validation = share(
+                validations,
+                result,
+                new Validation(result, this));
+        }
+        return validation;
+    }
+
+    /**
+     * Get the shared validation for a type and message using these
+     * preferences. Once {@link #MAX_VALIDATIONS} validations are shared, new
+     * validations are created for messages without a shared validation.
+     *
+     * @param type    the type
+     * @param message the message; may be null
+     * @return the validation
+     */
+    Validation getValidation(
+        final Validation.Type type,
+        final String message) {
+        if (type == null) {
+            return new Validation(type, message, this);
+        }
+        SharedValidations shared = messageValidations[type.ordinal()];
+        if (message == null) {
+            Validation none = shared.none;
+            if (none == null) {
+                // a race only creates an equal validation
+                none = new Validation(type, null, this);
+                shared.none = none;
+            }
+            return none;
+        }
+        Validation validation = shared.messages.get(message);
+        if (validation == null) {
+            validation = share(
+                shared.messages,
+                message,
+                new Validation(type, message, this));
+        }
+        return validation;
+    }
+
+    /**
+     * Share a validation unless {@link #MAX_VALIDATIONS} validations are
+     * already shared.
+     *
+     * @param <K>        the type of key
+     * @param shared     the shared validations
+     * @param key        the key of the validation
+     * @param validation the validation to share
+     * @return the shared validation for key, which is validation unless
+     *         another validation was shared first, or validation if not
+     *         shared
+     */
+    private <K> Validation share(
+        final ConcurrentHashMap<K, Validation> shared,
+        final K key,
+        final Validation validation) {
+        if (sharedCount.get() >= MAX_VALIDATIONS) {
+            return validation;
+        }
+        Validation existing = shared.putIfAbsent(key, validation);
+        if (existing != null) {
+            return existing;
+        }
+        sharedCount.incrementAndGet();
+        return validation;
+    }
+
+    /**
+     * Get the font to use. Fonts are shared by all preferences using the same
+     * font path, and loaded when first used.
+     * <p>
+     * <strong>Note</strong> if the requested font is not available, this will
+     * log, but not throw, an error and use the default font.
      *
      * @return the font
      */
     public Font getFont() {
-        return font;
+        return FontCache.getFont(fontPath);
+    }
+
+    /**
+     * Get the path to the font to use.
+     *
+     * @return the path that the font is loaded from using
+     *         {@link java.lang.Class#getResourceAsStream(java.lang.String)}
+     */
+    public String getFontPath() {
+        return fontPath;
+    }
+
+    /**
+     * Load the font to use on a background thread, if it is not already
+     * loaded, so that the font is not loaded on the Event Dispatch Thread when
+     * first drawing a validation icon.
+     * <p>
+     * The default icons in the default font are drawn from outlines
+     * generated when building, so the font only needs to be loaded when using
+     * a different font or icons.
+     *
+     * @return a future completed with the font once loaded
+     */
+    public CompletableFuture<Font> preloadFont() {
+        return FontCache.preload(fontPath);
+    }
+
+    /**
+     * Get the quiet period after the last change to input before validating.
+     *
+     * @return the delay in milliseconds; {@code 0} if input is validated on
+     *         every change
+     */
+    public int getDebounceDelay() {
+        return debounceDelay;
+    }
+
+    /**
+     * Get the maximum interval between changes to input for those changes to
+     * be considered a burst that is validated once after the burst ends.
+     *
+     * @return the interval in milliseconds; {@code 0} if bursts are not
+     *         detected
+     */
+    public int getDebounceBurst() {
+        return debounceBurst;
     }
 
     /**
@@ -290,4 +739,21 @@ public final class JInputValidatorPreferences {
                 return SystemColor.textText;
         }
     }
+
+    /**
+     * The shared validations of one type with messages that are not
+     * deferred.
+     */
+    private static final class SharedValidations {
+
+        /**
+         * The validation with a null message; null until requested.
+         */
+        private volatile Validation none = null;
+        /**
+         * The validations by message.
+         */
+        private final ConcurrentHashMap<String, Validation> messages =
+            new ConcurrentHashMap<>();
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link PredicateCache} for a single predicate that discards the least
+ * recently used results when either the number of results or the total
+ * length of the cached input exceeds a limit. Since results are keyed only on
+ * the input, an instance must only be used with a single predicate.
+ *
+ * @author Randall Wood
+ */
+public final class LruPredicateCache implements PredicateCache {
+
+    /**
+     * Initial capacity of the results map.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * Load factor of the results map.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+    /**
+     * Cached results in order of least to most recently used.
+     */
+    private final LinkedHashMap<String, Boolean> results =
+        new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    /**
+     * The maximum number of results. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final int fMaxEntries;
+    /**
+     * The maximum total length of cached input. (f for "field" to avoid
+     * conflict with parameter name)
+     */
+    private final long fMaxCharacters;
+    /**
+     * The total length of cached input.
+     */
+    private long characters = 0;
+    /**
+     * The number of cache hits.
+     */
+    private long hits = 0;
+    /**
+     * The number of cache misses.
+     */
+    private long misses = 0;
+
+    /**
+     * Create a LruPredicateCache.
+     *
+     * @param maxEntries    the maximum number of results to cache
+     * @param maxCharacters the maximum total length of input to cache; input
+     *                      longer than this is never cached
+     */
+    public LruPredicateCache(final int maxEntries, final long maxCharacters) {
+        this.fMaxEntries = maxEntries;
+        this.fMaxCharacters = maxCharacters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(
+        final PurePredicate<? super String> predicate,
+        final String input) {
+        synchronized (this) {
+            Boolean result = results.get(input);
+            if (result != null) {
+                hits++;
+                return result;
+            }
+            misses++;
+        }
+        // test outside of lock so slow predicates do not block other threads
+        boolean result = predicate.test(input);
+        put(input, result);
+        return result;
+    }
+
+    /**
+     * Cache a result, discarding least recently used results if needed.
+     *
+     * @param input  the tested input
+     * @param result the result
+     */
+    private synchronized void put(final String input, final boolean result) {
+        if (fMaxEntries <= 0 || input.length() > fMaxCharacters) {
+            return;
+        }
+        if (results.put(input, result) == null) {
+            characters += input.length();
+        }
+        Iterator<Map.Entry<String, Boolean>> iterator =
+            results.entrySet().iterator();
+        while (results.size() > fMaxEntries || characters > fMaxCharacters) {
+            characters -= iterator.next().getKey().length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /**
+     * Get the total length of cached input.
+     *
+     * @return the number of characters
+     */
+    public synchronized long getCharacterCount() {
+        return characters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void clear() {
+        results.clear();
+        characters = 0;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+/**
+ * A cache of the results of testing {@link PurePredicate}s.
+ * <p>
+ * {@link LruPredicateCache} caches results for a single predicate used by a
+ * single validator, while {@link SharedPredicateCache} caches results for any
+ * number of predicates shared by any number of validators.
+ *
+ * @author Randall Wood
+ * @see PredicateValidator#setCache(PredicateCache)
+ */
+public interface PredicateCache {
+
+    /**
+     * Get the result of testing input with predicate, testing the predicate
+     * only if the result is not cached. This must be safe to call from any
+     * thread.
+     *
+     * @param predicate the predicate to test with; must not be null
+     * @param input     the input to test; must not be null
+     * @return the result of testing input
+     */
+    boolean test(PurePredicate<? super String> predicate, String input);
+
+    /**
+     * Get the number of times a result was found in the cache.
+     *
+     * @return the number of hits
+     */
+    long getHitCount();
+
+    /**
+     * Get the number of times a result was not found in the cache.
+     *
+     * @return the number of misses
+     */
+    long getMissCount();
+
+    /**
+     * Get the number of results in the cache.
+     *
+     * @return the number of results
+     */
+    int size();
+
+    /**
+     * Remove all results from the cache. This does not reset the hit and miss
+     * counts.
+     */
+    void clear();
+}
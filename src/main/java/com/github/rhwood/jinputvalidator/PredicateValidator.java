@@ -15,6 +15,9 @@
  */
 package com.github.rhwood.jinputvalidator;
 
+import com.github.rhwood.jinputvalidator.rule.Rule;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+
 import java.util.function.Predicate;
 
 import javax.swing.JComponent;
@@ -25,10 +28,13 @@ import javax.swing.text.JTextComponent;
  * {@link java.util.function.Predicate} for a String to toggle a
  * valid/invalid state. This only works against subclasses of
  * {@link JTextComponent}.
+ * <p>
+ * This is a {@link RuleValidator} using a rule created with
+ * {@link Rule#of(java.util.function.Predicate, RuleResult, RuleResult)}.
  *
  * @author Randall Wood
  */
-public class PredicateValidator extends JInputValidator {
+public class PredicateValidator extends RuleValidator {
 
     /**
      * The predicate to use. (f for "field" to avoid conflict with parameter
@@ -36,15 +42,19 @@ public class PredicateValidator extends JInputValidator {
      */
     private final Predicate<String> fPredicate;
     /**
-     * The validation to use when the predicate returns true. (f for "field"
+     * The result to use when the predicate returns true. (f for "field"
      * to avoid conflict with parameter name)
      */
-    private final Validation fValid;
+    private final RuleResult fValid;
     /**
-     * The validation to use when the predicate returns false. (f for "field"
+     * The result to use when the predicate returns false. (f for "field"
      * to avoid conflict with parameter name)
      */
-    private final Validation fInvalid;
+    private final RuleResult fInvalid;
+    /**
+     * The cache of predicate results or null if results are not cached.
+     */
+    private volatile PredicateCache cache = null;
 
     /**
      * Create a PredicateValidator with a valid {@link Validation} of type
@@ -130,38 +140,114 @@ public class PredicateValidator extends JInputValidator {
         final boolean onInput,
         final boolean isVerifying,
         final JInputValidatorPreferences preferences) {
-        super(component, onInput, isVerifying, preferences);
+        this(
+            component,
+            predicate,
+            toResult(invalid),
+            toResult(valid),
+            onInput,
+            isVerifying,
+            preferences);
+    }
+
+    /**
+     * Create a PredicateValidator.
+     *
+     * @param component   the component to verify; must not be null
+     * @param predicate   the predicate to use; must not be null
+     * @param invalid     the result when the predicate returns false; must
+     *                    not be null
+     * @param valid       the result when the predicate returns true; must
+     *                    not be null
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per
+     *                    {@link javax.swing.InputVerifier#verify(JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     * @param preferences the preferences to use to draw the validation icons;
+     *                    must not be null
+     */
+    private PredicateValidator(
+        final JComponent component,
+        final Predicate<String> predicate,
+        final RuleResult invalid,
+        final RuleResult valid,
+        final boolean onInput,
+        final boolean isVerifying,
+        final JInputValidatorPreferences preferences) {
+        super(
+            component,
+            Rule.of(predicate, valid, invalid),
+            onInput,
+            isVerifying,
+            preferences);
         this.fPredicate = predicate;
-        this.fInvalid = new Validation(invalid, preferences);
-        if (valid != null) {
-            this.fValid = new Validation(valid, preferences);
-        } else {
-            this.fValid = getNoneValidation();
+        this.fInvalid = invalid;
+        this.fValid = valid;
+    }
+
+    /**
+     * Get the result for a validation.
+     *
+     * @param validation the validation; may be null
+     * @return the result with the type and message of validation or
+     *         {@link RuleResult#NONE} if validation is null
+     */
+    static RuleResult toResult(final Validation validation) {
+        if (validation == null) {
+            return RuleResult.NONE;
         }
+        return validation.getResult();
     }
 
     /**
-     * Get the validation for the current result of calling
-     * {@link javax.swing.InputVerifier#verify(javax.swing.JComponent)} using
-     * the predicate. If input is not a subclass of {@link JTextComponent}; no
-     * validation is performed.
+     * Test text with the predicate, using the cache if set.
      *
-     * @param input       the component to verify
-     * @param preferences preferences to apply to Validation
-     * @return the Validation for the valid or invalid states as appropriate
+     * @param text the text to test
+     * @return the result for the valid or invalid states as appropriate
      */
     @Override
-    protected Validation getValidation(
-        final JComponent input,
-        final JInputValidatorPreferences preferences) {
-        if (input instanceof JTextComponent) {
-            JTextComponent textInput = (JTextComponent) input;
-            return new Validation(
-                fPredicate.test(textInput.getText()) ? fValid : fInvalid,
-                preferences);
-        } else {
-            return getNoneValidation();
+    protected RuleResult apply(final String text) {
+        PredicateCache c = cache;
+        if (c == null) {
+            return super.apply(text);
+        }
+        if (c.test((PurePredicate<String>) fPredicate, text)) {
+            return fValid;
         }
+        return fInvalid;
+    }
+
+    /**
+     * Set the cache used to avoid testing the predicate again for input that
+     * was previously tested. Since caching is only safe if the result of the
+     * predicate depends only on the input, the predicate must be a
+     * {@link PurePredicate}.
+     *
+     * @param predicateCache the cache to use or null to not cache results
+     * @throws IllegalStateException if predicateCache is not null and the
+     *                               predicate is not a PurePredicate
+     */
+    public void setCache(final PredicateCache predicateCache) {
+        if (predicateCache != null
+            && !(fPredicate instanceof PurePredicate)) {
+            throw new IllegalStateException(
+                "Only results of a PurePredicate can be cached");
+        }
+        cache = predicateCache;
+    }
+
+    /**
+     * Get the cache used to avoid testing the predicate again for input that
+     * was previously tested.
+     *
+     * @return the cache or null if results are not cached
+     */
+    public PredicateCache getCache() {
+        return cache;
     }
 
 }
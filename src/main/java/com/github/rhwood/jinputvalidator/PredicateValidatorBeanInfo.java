@@ -36,6 +36,7 @@ public class PredicateValidatorBeanInfo extends AbstractValidatorBeanInfo {
     // Bean descriptor
     /* lazy BeanDescriptor */
     private static BeanDescriptor getBdescriptor() {
+        BUILDS.incrementAndGet();
         return new BeanDescriptor(PredicateValidator.class, null);
     }
 
@@ -48,6 +49,7 @@ public class PredicateValidatorBeanInfo extends AbstractValidatorBeanInfo {
     // Property array
     /* lazy PropertyDescriptor */
     private static PropertyDescriptor[] getPdescriptor() {
+        BUILDS.incrementAndGet();
         PropertyDescriptor[] properties = new PropertyDescriptor[4];
 
         try {
@@ -66,6 +68,10 @@ public class PredicateValidatorBeanInfo extends AbstractValidatorBeanInfo {
         return properties;
     }
 
+    // Descriptors, built once since building them uses reflection
+    private static final BeanDescriptor BEAN_DESCRIPTOR = getBdescriptor();
+    private static final PropertyDescriptor[] PROPERTIES = getPdescriptor();
+
     /**
      * Construct a {@code PredicateValidatorBeanInfo }
      */
@@ -82,7 +88,7 @@ public class PredicateValidatorBeanInfo extends AbstractValidatorBeanInfo {
      */
     @Override
     public BeanDescriptor getBeanDescriptor() {
-        return getBdescriptor();
+        return BEAN_DESCRIPTOR;
     }
 
     /**
@@ -100,7 +106,7 @@ public class PredicateValidatorBeanInfo extends AbstractValidatorBeanInfo {
      */
     @Override
     public PropertyDescriptor[] getPropertyDescriptors() {
-        return getPdescriptor();
+        return PROPERTIES.clone();
     }
 
 }
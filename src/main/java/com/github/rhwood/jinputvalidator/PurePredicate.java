@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A {@link java.util.function.Predicate} that is pure; that is the result of
+ * {@link #test(java.lang.Object)} depends only on its input and testing has
+ * no side effects. Results of a pure predicate can be cached, so only pure
+ * predicates can be used with a {@link PredicateCache}.
+ * <p>
+ * A cache shared by many predicates, such as {@link SharedPredicateCache},
+ * keys results on the {@linkplain #getRuleId() rule id} of the predicate, so
+ * pure predicates with equal rule ids share cached results.
+ *
+ * @param <T> the type of the input to the predicate
+ * @author Randall Wood
+ */
+@FunctionalInterface
+public interface PurePredicate<T> extends Predicate<T> {
+
+    /**
+     * Get the id of the rule this predicate tests. Pure predicates with equal
+     * rule ids must return the same result for the same input.
+     *
+     * @return the rule id; by default this predicate
+     */
+    default Object getRuleId() {
+        return this;
+    }
+
+    /**
+     * Mark a predicate as pure. The rule id of the returned predicate is
+     * predicate, so pure predicates created from the same predicate share
+     * cached results.
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param predicate the predicate that is pure; must not be null
+     * @return a pure predicate that tests using predicate, or predicate if
+     *         it is already pure
+     */
+    static <T> PurePredicate<T> of(final Predicate<? super T> predicate) {
+        if (predicate instanceof PurePredicate) {
+            @SuppressWarnings("unchecked")
+            PurePredicate<T> pure = (PurePredicate<T>) predicate;
+            return pure;
+        }
+        return of(predicate, predicate);
+    }
+
+    /**
+     * Mark a predicate as pure, identifying the rule it tests. Use this when
+     * predicates for the same rule are created repeatedly, for example by a
+     * lambda capturing a parameter of the rule, so that they share cached
+     * results.
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param ruleId    the rule id, such as a name including the parameters
+     *                  of the rule; must not be null and must implement
+     *                  {@link Object#equals(Object)} and
+     *                  {@link Object#hashCode()}
+     * @param predicate the predicate that is pure; must not be null
+     * @return a pure predicate that tests using predicate
+     */
+    static <T> PurePredicate<T> of(
+        final Object ruleId,
+        final Predicate<? super T> predicate) {
+        Objects.requireNonNull(ruleId);
+        Objects.requireNonNull(predicate);
+        return new PurePredicate<T>() {
+            @Override
+            public boolean test(final T value) {
+                return predicate.test(value);
+            }
+
+            @Override
+            public Object getRuleId() {
+                return ruleId;
+            }
+        };
+    }
+}
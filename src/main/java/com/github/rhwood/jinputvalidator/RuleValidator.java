@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.rule.Rule;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+import com.github.rhwood.jinputvalidator.rule.Severity;
+
+import java.util.function.Supplier;
+
+import javax.swing.JComponent;
+import javax.swing.text.JTextComponent;
+
+/**
+ * A {@link JInputValidator} that displays the result of a {@link Rule} for
+ * the text of a {@link JTextComponent}. This only works against subclasses of
+ * {@link JTextComponent}.
+ * <p>
+ * The rule does not depend on Swing, so the same rule can validate the same
+ * values where no user interface is available.
+ *
+ * @author Randall Wood
+ */
+public class RuleValidator extends JInputValidator {
+
+    /**
+     * The rule to use. (f for "field" to avoid conflict with parameter name)
+     */
+    private final Rule<? super String> fRule;
+
+    /**
+     * Create a RuleValidator with validation on every input,
+     * {@link javax.swing.InputVerifier#verify(JComponent)} returning true or
+     * false, and default preferences.
+     *
+     * @param component the component to verify; must not be null
+     * @param rule      the rule to use; must not be null
+     */
+    public RuleValidator(
+        final JComponent component,
+        final Rule<? super String> rule) {
+        this(component, rule, true, true);
+    }
+
+    /**
+     * Create a RuleValidator with default preferences.
+     *
+     * @param component   the component to verify; must not be null
+     * @param rule        the rule to use; must not be null
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per
+     *                    {@link javax.swing.InputVerifier#verify(JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     */
+    public RuleValidator(
+        final JComponent component,
+        final Rule<? super String> rule,
+        final boolean onInput,
+        final boolean isVerifying) {
+        this(
+            component,
+            rule,
+            onInput,
+            isVerifying,
+            JInputValidatorPreferences.getPreferences());
+    }
+
+    /**
+     * Create a RuleValidator.
+     *
+     * @param component   the component to verify; must not be null
+     * @param rule        the rule to use; must not be null
+     * @param onInput     true if validation should occur on every change to
+     *                    input; false if validation should only occur on focus
+     *                    changes
+     * @param isVerifying {@code true} if validator is to return true or false
+     *                    per
+     *                    {@link javax.swing.InputVerifier#verify(JComponent)};
+     *                    {@code false} to always return {@code true} for that
+     *                    method.
+     * @param preferences the preferences to use to draw the validation icons;
+     *                    must not be null
+     */
+    public RuleValidator(
+        final JComponent component,
+        final Rule<? super String> rule,
+        final boolean onInput,
+        final boolean isVerifying,
+        final JInputValidatorPreferences preferences) {
+        super(component, onInput, isVerifying, preferences);
+        this.fRule = rule;
+    }
+
+    /**
+     * Get the rule used by this validator.
+     *
+     * @return the rule
+     */
+    public Rule<? super String> getRule() {
+        return fRule;
+    }
+
+    /**
+     * Get the validation for the result of applying the rule to the current
+     * text of input. If input is not a subclass of {@link JTextComponent}; no
+     * validation is performed.
+     *
+     * @param input       the component to verify
+     * @param preferences preferences to apply to Validation
+     * @return the Validation for the result of the rule
+     */
+    @Override
+    protected Validation getValidation(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        if (input instanceof JTextComponent) {
+            JTextComponent textInput = (JTextComponent) input;
+            return getValidation(textInput.getText(), preferences);
+        } else {
+            return getNoneValidation();
+        }
+    }
+
+    /**
+     * Get a task that applies the rule to a copy of the current text. If input
+     * is not a subclass of {@link JTextComponent}; no validation is performed.
+     *
+     * @param input       the component to verify
+     * @param preferences preferences to apply to Validation
+     * @return a task returning the Validation for the result of the rule
+     */
+    @Override
+    protected Supplier<Validation> getValidationTask(
+        final JComponent input,
+        final JInputValidatorPreferences preferences) {
+        if (input instanceof JTextComponent) {
+            String text = ((JTextComponent) input).getText();
+            return () -> getValidation(text, preferences);
+        }
+        return super.getValidationTask(input, preferences);
+    }
+
+    /**
+     * Get the validation for the result of applying the rule to text. This
+     * does not access the component being validated, so it can be called from
+     * any thread.
+     *
+     * @param text        the text to validate
+     * @param preferences preferences to apply to Validation
+     * @return the Validation for the result of the rule
+     */
+    protected Validation getValidation(
+        final String text,
+        final JInputValidatorPreferences preferences) {
+        return toValidation(apply(text), preferences);
+    }
+
+    /**
+     * Get the validation for a result of the rule. A result of type
+     * {@link Severity#NONE} without a message retains the tool tip of the
+     * component being validated.
+     *
+     * @param result      the result of the rule
+     * @param preferences preferences to apply to Validation
+     * @return the Validation for result
+     */
+    protected Validation toValidation(
+        final RuleResult result,
+        final JInputValidatorPreferences preferences) {
+        if (result.getType() == Severity.NONE
+            && result.getMessageSupplier() == null
+            && result.getMessage() == null) {
+            // retain the tool tip of the component
+            return getNoneValidation();
+        }
+        return Validation.of(result, preferences);
+    }
+
+    /**
+     * Apply the rule to text. Subclasses may override this to change how the
+     * rule is applied.
+     *
+     * @param text the text to validate
+     * @return the result of the rule; must never be null
+     */
+    protected RuleResult apply(final String text) {
+        return fRule.apply(text);
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link PredicateCache} that can be shared by any number of validators
+ * using any number of predicates on any thread. Results are keyed on the
+ * {@linkplain PurePredicate#getRuleId() rule id} of the predicate and the
+ * input, so a result for a rule used by many validators is cached once for
+ * all of them, even if each validator has its own predicate for the rule.
+ * <p>
+ * Rule ids are held weakly, so caching results does not keep predicates, or
+ * objects captured by them, from being garbage collected. Results for a rule
+ * id that has been garbage collected are removed.
+ * <p>
+ * The cache is bounded by the number of results and by an estimate of the
+ * memory used by the cached input. When either limit is exceeded, results are
+ * evicted using the CLOCK (second chance) approximation of least recently
+ * used eviction.
+ *
+ * @author Randall Wood
+ */
+public final class SharedPredicateCache implements PredicateCache {
+
+    /**
+     * The default maximum number of results.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    /**
+     * The default maximum estimated memory use in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+    /**
+     * The estimated memory use in bytes of a cached result, excluding the
+     * characters of the input.
+     */
+    static final int ENTRY_OVERHEAD = 96;
+    /**
+     * A prime number used in hashCode calculations.
+     */
+    private static final int HASH_PRIME = 31;
+    /**
+     * The shared cache.
+     */
+    private static SharedPredicateCache defaultCache = null;
+    /**
+     * The cached results.
+     */
+    private final ConcurrentHashMap<Key, Entry> results =
+        new ConcurrentHashMap<>();
+    /**
+     * The keys of cached results in the order they are considered for
+     * eviction.
+     */
+    private final ConcurrentLinkedQueue<Key> clock =
+        new ConcurrentLinkedQueue<>();
+    /**
+     * The keys of cached results whose rule ids were garbage collected.
+     */
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    /**
+     * The estimated memory use in bytes.
+     */
+    private final AtomicLong bytes = new AtomicLong();
+    /**
+     * The number of cache hits.
+     */
+    private final LongAdder hits = new LongAdder();
+    /**
+     * The number of cache misses.
+     */
+    private final LongAdder misses = new LongAdder();
+    /**
+     * The number of evicted results.
+     */
+    private final LongAdder evictions = new LongAdder();
+    /**
+     * The maximum number of results. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final int fMaxEntries;
+    /**
+     * The maximum estimated memory use in bytes. (f for "field" to avoid
+     * conflict with parameter name)
+     */
+    private final long fMaxBytes;
+
+    /**
+     * Create a SharedPredicateCache.
+     *
+     * @param maxEntries the maximum number of results to cache
+     * @param maxBytes   the maximum estimated memory in bytes to use
+     */
+    public SharedPredicateCache(final int maxEntries, final long maxBytes) {
+        this.fMaxEntries = maxEntries;
+        this.fMaxBytes = maxBytes;
+    }
+
+    /**
+     * Get the process-wide shared cache, limited to
+     * {@link #DEFAULT_MAX_ENTRIES} results and {@link #DEFAULT_MAX_BYTES}
+     * bytes.
+     *
+     * @return the shared cache
+     */
+    public static synchronized SharedPredicateCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new SharedPredicateCache(
+                DEFAULT_MAX_ENTRIES,
+                DEFAULT_MAX_BYTES);
+        }
+        return defaultCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(
+        final PurePredicate<? super String> predicate,
+        final String input) {
+        expunge();
+        Key key = new Key(predicate.getRuleId(), input, null);
+        Entry entry = results.get(key);
+        if (entry != null) {
+            entry.referenced = true;
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        boolean result = predicate.test(input);
+        long cost = getCost(input);
+        if (fMaxEntries > 0 && cost <= fMaxBytes) {
+            key = new Key(predicate.getRuleId(), input, collected);
+        }
+        if (fMaxEntries > 0 && cost <= fMaxBytes
+            && results.putIfAbsent(key, new Entry(result)) == null) {
+            clock.add(key);
+            bytes.addAndGet(cost);
+            evict();
+        }
+        return result;
+    }
+
+    /**
+     * Remove results for rule ids that have been garbage collected.
+     */
+    private void expunge() {
+        Key key = (Key) collected.poll();
+        while (key != null) {
+            if (results.remove(key) != null) {
+                bytes.addAndGet(-getCost(key.input));
+                evictions.increment();
+            }
+            // the key is left in the clock, and skipped when reached
+            key = (Key) collected.poll();
+        }
+    }
+
+    /**
+     * Evict results until within limits. Results referenced since last
+     * considered for eviction are given a second chance.
+     */
+    private void evict() {
+        while (results.size() > fMaxEntries || bytes.get() > fMaxBytes) {
+            Key key = clock.poll();
+            if (key == null) {
+                return;
+            }
+            Entry entry = results.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.add(key);
+            } else if (results.remove(key, entry)) {
+                bytes.addAndGet(-getCost(key.input));
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Get the estimated memory use of caching a result for input.
+     *
+     * @param input the input
+     * @return the estimated number of bytes
+     */
+    private static long getCost(final String input) {
+        return ENTRY_OVERHEAD + 2L * input.length();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of results evicted to stay within limits.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the estimated memory used by cached results.
+     *
+     * @return the estimated number of bytes
+     */
+    public long getEstimatedBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Key key = clock.poll();
+        while (key != null) {
+            if (results.remove(key) != null) {
+                bytes.addAndGet(-getCost(key.input));
+            }
+            key = clock.poll();
+        }
+    }
+
+    /**
+     * The key for a cached result, holding the rule id weakly.
+     */
+    private static final class Key extends WeakReference<Object> {
+
+        /**
+         * The input.
+         */
+        private final String input;
+        /**
+         * The cached hash code.
+         */
+        private final int hash;
+
+        /**
+         * Create a Key.
+         *
+         * @param ruleId the rule id
+         * @param value  the input
+         * @param queue  the queue to add the key to when the rule id is
+         *               garbage collected or null if only used for lookup
+         */
+        Key(
+            final Object ruleId,
+            final String value,
+            final ReferenceQueue<Object> queue) {
+            super(ruleId, queue);
+            this.input = value;
+            this.hash = ruleId.hashCode() * HASH_PRIME + value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (hash != other.hash || !input.equals(other.input)) {
+                return false;
+            }
+            Object ruleId = get();
+            return ruleId != null && ruleId.equals(other.get());
+        }
+    }
+
+    /**
+     * A cached result.
+     */
+    private static final class Entry {
+
+        /**
+         * The result.
+         */
+        private final boolean result;
+        /**
+         * Flag indicating the result was used since last considered for
+         * eviction.
+         */
+        private volatile boolean referenced = false;
+
+        /**
+         * Create an Entry.
+         *
+         * @param value the result
+         */
+        Entry(final boolean value) {
+            this.result = value;
+        }
+    }
+}
@@ -15,13 +15,22 @@
  */
 package com.github.rhwood.jinputvalidator;
 
+import com.github.rhwood.jinputvalidator.rule.DynamicMessage;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+import com.github.rhwood.jinputvalidator.rule.Severity;
+import com.github.rhwood.jinputvalidator.rule.ValidationMessages;
+
 import java.awt.Color;
 import java.awt.Font;
-import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * A Validation is the combination of a validation state and the tool tip to
  * display on the validated component.
+ * <p>
+ * Validations are immutable. Use the {@code of} methods to get a shared
+ * instance instead of creating a new Validation, so that validating the same
+ * state repeatedly does not allocate memory.
  *
  * @author Randall Wood
  */
@@ -37,21 +46,29 @@ public class Validation {
      */
     private final Type fType;
     /**
-     * The tool tip text to display on the validated component. (f for "field"
-     * to avoid conflict with parameter name)
+     * The result holding the tool tip text to display on the validated
+     * component, which may be deferred. (f for "field" to avoid conflict
+     * with parameter name)
      */
-    private final String fMessage;
+    private final RuleResult fResult;
     /**
      * The preferences used to determine the display properties of the
      * validation. (f for "field" to avoid conflict with parameter name)
      */
     private final JInputValidatorPreferences fPreferences;
+    /**
+     * The cached hash code.
+     */
+    private final int hash;
 
     /**
      * The Validation state. The states {@link Type#DANGER} and
      * {@link Type#WARNING} are considered invalid in
      * {@link JInputValidator#verify(javax.swing.JComponent)} and all other
      * states are considered valid.
+     * <p>
+     * Each type displays the {@link RuleResult}s with the {@link Severity} of
+     * the same name, so rules do not depend on this class.
      */
     public enum Type {
         /**
@@ -59,36 +76,82 @@ public class Validation {
          * component being validated has a default tool tip, that tool tip is
          * displayed.
          */
-        NONE,
+        NONE(Severity.NONE),
         /**
          * Validation state with an unknown icon and tool tip. By default the
          * icon is a question mark in a circle in the default border color.
          * Considered informative and valid.
          */
-        UNKNOWN,
+        UNKNOWN(Severity.UNKNOWN),
         /**
          * Validation state with an information icon and tool tip. By default
          * the icon is a letter I in a circle in the default border color.
          * Considered informative and valid.
          */
-        INFORMATION,
+        INFORMATION(Severity.INFORMATION),
         /**
          * Validation state with a success icon and tool tip. By default the
          * icon is a check mark in a circle in green. Considered informative and
          * valid.
          */
-        SUCCESS,
+        SUCCESS(Severity.SUCCESS),
         /**
          * Validation state with an warning icon and tool tip. By default the
          * icon is an exclamation mark in a triangle in yellow. Considered
          * invalid.
          */
-        WARNING,
+        WARNING(Severity.WARNING),
         /**
          * Validation state with an danger icon and tool tip. By default the
          * icon is a letter X in a circle in red. Considered invalid.
          */
-        DANGER,
+        DANGER(Severity.DANGER);
+
+        /**
+         * The types by the ordinal of their severities.
+         */
+        private static final Type[] BY_SEVERITY =
+            new Type[Severity.values().length];
+
+        static {
+            for (Type type : values()) {
+                BY_SEVERITY[type.fSeverity.ordinal()] = type;
+            }
+        }
+
+        /**
+         * The severity of this type. (f for "field" to avoid conflict with
+         * parameter name)
+         */
+        private final Severity fSeverity;
+
+        /**
+         * Create a Type.
+         *
+         * @param severity the severity of results displayed with this type
+         */
+        Type(final Severity severity) {
+            this.fSeverity = severity;
+        }
+
+        /**
+         * Get the severity of {@link RuleResult}s displayed with this type.
+         *
+         * @return the severity with the same name as this type
+         */
+        public Severity getSeverity() {
+            return fSeverity;
+        }
+
+        /**
+         * Get the type used to display {@link RuleResult}s with a severity.
+         *
+         * @param severity the severity; must not be null
+         * @return the type with the same name as severity
+         */
+        public static Type of(final Severity severity) {
+            return BY_SEVERITY[severity.ordinal()];
+        }
     }
 
     /**
@@ -116,9 +179,136 @@ public class Validation {
         final Type type,
         final String message,
         final JInputValidatorPreferences preferences) {
+        this(
+            type,
+            new RuleResult(getSeverity(type), message),
+            preferences);
+    }
+
+    /**
+     * Create a validation. The message of the validation is the message of
+     * the result, so a deferred message is created once for both.
+     *
+     * @param type        the type of validation
+     * @param result      the result with the tool tip text
+     * @param preferences the preferences to use; must not be null
+     */
+    private Validation(
+        final Type type,
+        final RuleResult result,
+        final JInputValidatorPreferences preferences) {
         this.fType = type;
-        this.fMessage = message;
+        this.fResult = result;
         this.fPreferences = preferences;
+        this.hash = HASH_PRIME * HASH_PRIME + result.hashCode();
+    }
+
+    /**
+     * Get the severity of a type.
+     *
+     * @param type the type; may be null
+     * @return the severity of type or null if type is null
+     */
+    private static Severity getSeverity(final Type type) {
+        if (type == null) {
+            return null;
+        }
+        return type.getSeverity();
+    }
+
+    /**
+     * Create a validation with a message that is not created until needed,
+     * using default preferences. When the validation is displayed by a
+     * {@link JInputValidator}, the message is not created until the validated
+     * component may display its tool tip: when the mouse enters the
+     * component or the component gains focus.
+     * <p>
+     * Validations with deferred messages are equal only if their suppliers
+     * are equal, so a supplier that is a lambda must be created once and
+     * reused; otherwise use {@link #deferred(Type, Object, Supplier)}.
+     * <p>
+     * This should not be used within
+     * {@link JInputValidator#getValidation(javax.swing.JComponent,
+     * com.github.rhwood.jinputvalidator.JInputValidatorPreferences)}.
+     *
+     * @param type    the type of validation
+     * @param message the supplier of the tool tip text, called at most once;
+     *                must not be null
+     * @return a new validation
+     * @see #getMessage()
+     * @see RuleResult#deferred(Severity, Supplier)
+     */
+    public static Validation deferred(
+        final Type type,
+        final Supplier<String> message) {
+        return deferred(
+            type,
+            message,
+            JInputValidatorPreferences.getPreferences());
+    }
+
+    /**
+     * Create a validation with a message that is not created until needed,
+     * identified by a key, using default preferences. Validations created
+     * with this method are equal if they have the same type and equal keys,
+     * regardless of the supplier.
+     *
+     * @param type    the type of validation
+     * @param key     the key identifying the message; must not be null
+     * @param message the supplier of the tool tip text, called at most once;
+     *                must not be null
+     * @return a new validation
+     * @see RuleResult#deferred(Severity, Object, Supplier)
+     */
+    public static Validation deferred(
+        final Type type,
+        final Object key,
+        final Supplier<String> message) {
+        return new Validation(
+            type,
+            RuleResult.deferred(getSeverity(type), key, message),
+            JInputValidatorPreferences.getPreferences());
+    }
+
+    /**
+     * Create a validation with a localized message that is not formatted
+     * until needed, using default preferences. The message is formatted again
+     * if the locale of messages changes.
+     *
+     * @param type      the type of validation
+     * @param messages  the catalog of messages; must not be null
+     * @param key       the key of the message in messages; must not be null
+     * @param arguments the arguments of the message
+     * @return a new validation
+     * @see ValidationMessages#message(java.lang.String, java.lang.Object...)
+     */
+    public static Validation localized(
+        final Type type,
+        final ValidationMessages messages,
+        final String key,
+        final Object... arguments) {
+        return deferred(type, messages.message(key, arguments));
+    }
+
+    /**
+     * Create a validation with a message that is not created until needed,
+     * using custom preferences.
+     *
+     * @param type        the type of validation
+     * @param message     the supplier of the tool tip text, called at most
+     *                    once; must not be null
+     * @param preferences the preferences to use; must not be null
+     * @return a new validation
+     * @see #deferred(Type, Supplier)
+     */
+    public static Validation deferred(
+        final Type type,
+        final Supplier<String> message,
+        final JInputValidatorPreferences preferences) {
+        return new Validation(
+            type,
+            RuleResult.deferred(getSeverity(type), message),
+            preferences);
     }
 
     /**
@@ -131,7 +321,74 @@ public class Validation {
     public Validation(
         final Validation validation,
         final JInputValidatorPreferences preferences) {
-        this(validation.getType(), validation.getMessage(), preferences);
+        this(validation.fType, validation.fResult, preferences);
+    }
+
+    /**
+     * Create a validation from the result of a
+     * {@link com.github.rhwood.jinputvalidator.rule.Rule} with custom
+     * preferences.
+     *
+     * @param result      the result to base the new validation on; must not
+     *                    be null
+     * @param preferences the preferences to use; must not be null
+     */
+    public Validation(
+        final RuleResult result,
+        final JInputValidatorPreferences preferences) {
+        this(Type.of(result.getType()), result, preferences);
+    }
+
+    /**
+     * Get a shared validation with custom preferences. The same instance is
+     * returned for equal results and the same preferences, unless too many
+     * different results have been requested for the preferences.
+     *
+     * @param result      the result to base the validation on; must not be
+     *                    null
+     * @param preferences the preferences to use; must not be null
+     * @return a validation with the type and message of result
+     */
+    public static Validation of(
+        final RuleResult result,
+        final JInputValidatorPreferences preferences) {
+        return preferences.getValidation(result);
+    }
+
+    /**
+     * Get a shared validation with custom preferences.
+     *
+     * @param type        the type of validation
+     * @param message     the tool tip text
+     * @param preferences the preferences to use; must not be null
+     * @return a validation with type and message
+     * @see #of(com.github.rhwood.jinputvalidator.rule.RuleResult,
+     * com.github.rhwood.jinputvalidator.JInputValidatorPreferences)
+     */
+    public static Validation of(
+        final Type type,
+        final String message,
+        final JInputValidatorPreferences preferences) {
+        return preferences.getValidation(type, message);
+    }
+
+    /**
+     * Get a validation based on an existing validation with custom
+     * preferences. If validation already uses preferences, validation is
+     * returned.
+     *
+     * @param validation  the existing validation to base the validation on;
+     *                    must not be null
+     * @param preferences the preferences to use; must not be null
+     * @return a validation with the type and message of validation
+     */
+    public static Validation of(
+        final Validation validation,
+        final JInputValidatorPreferences preferences) {
+        if (validation.fPreferences == preferences) {
+            return validation;
+        }
+        return of(validation.fResult, preferences);
     }
 
     /**
@@ -145,12 +402,45 @@ public class Validation {
 
     /**
      * Get the validation message used in the tool tip for the validated
-     * component.
+     * component. If this validation was created with a supplier of the
+     * message, the supplier is called the first time this is called.
      *
      * @return the tool tip text
+     * @see #deferred(Type, Supplier)
      */
     public String getMessage() {
-        return fMessage;
+        return fResult.getMessage();
+    }
+
+    /**
+     * Check if the validation message has been created.
+     *
+     * @return {@code false} if this validation was created with a supplier of
+     *         the message that has not been called or with a
+     *         {@link DynamicMessage} that is not current; {@code true}
+     *         otherwise
+     * @see RuleResult#isMessageResolved()
+     */
+    public boolean isMessageResolved() {
+        return fResult.isMessageResolved();
+    }
+
+    /**
+     * Get the supplier of the validation message.
+     *
+     * @return the supplier or null if the message is not deferred
+     */
+    Supplier<String> getMessageSupplier() {
+        return fResult.getMessageSupplier();
+    }
+
+    /**
+     * Get the result holding the validation message.
+     *
+     * @return the result
+     */
+    RuleResult getResult() {
+        return fResult;
     }
 
     /**
@@ -180,11 +470,17 @@ public class Validation {
         return fPreferences.getFont();
     }
 
+    /**
+     * Get the path of the font used to render the icon.
+     *
+     * @return the path the font is loaded from
+     */
+    public String getFontPath() {
+        return fPreferences.getFontPath();
+    }
+
     @Override
     public final int hashCode() {
-        int hash = HASH_PRIME;
-        hash = HASH_PRIME * hash + Objects.hashCode(this.fType);
-        hash = HASH_PRIME * hash + Objects.hashCode(this.fMessage);
         return hash;
     }
 
@@ -194,7 +490,11 @@ public class Validation {
      * <strong>Note</strong> two Validations are considered equal if
      * {@code getType()} and {@code getMessage()} are equal (the display
      * properties {@code getColor()}, {@code getFont()}, and {@code getIcon()}
-     * are not considered for equality).
+     * are not considered for equality). Validations created with a supplier
+     * of the message are equal only if created with equal suppliers or
+     * equal keys, so comparing them does not create the message.
+     *
+     * @see RuleResult#deferred(Severity, Supplier)
      */
     @Override
     public boolean equals(final Object obj) {
@@ -207,6 +507,9 @@ public class Validation {
         if (getClass() != obj.getClass()) {
             return false;
         }
-        return this.hashCode() == obj.hashCode();
+        Validation other = (Validation) obj;
+        return hash == other.hash
+            && fType == other.fType
+            && fResult.equals(other.fResult);
     }
 }
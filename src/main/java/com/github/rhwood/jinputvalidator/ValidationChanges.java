@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+
+import java.util.Arrays;
+
+/**
+ * The changes to validations delivered to a {@link BatchValidationListener}.
+ * Changes are stored in reusable arrays, so delivering changes does not
+ * create an object per change. Only changes to the type of a validation are
+ * included. A validator may be included more than once if its type changed
+ * more than once.
+ *
+ * @author Randall Wood
+ */
+public final class ValidationChanges {
+
+    /**
+     * The initial number of changes that can be stored.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The validators.
+     */
+    private JInputValidator[] validators =
+        new JInputValidator[INITIAL_CAPACITY];
+    /**
+     * The previous types.
+     */
+    private Type[] oldTypes = new Type[INITIAL_CAPACITY];
+    /**
+     * The new types.
+     */
+    private Type[] newTypes = new Type[INITIAL_CAPACITY];
+    /**
+     * The number of changes.
+     */
+    private int size = 0;
+
+    /**
+     * Create an empty ValidationChanges.
+     */
+    ValidationChanges() {
+        // only created by the scheduler
+    }
+
+    /**
+     * Add a change.
+     *
+     * @param validator the validator
+     * @param oldType   the type of the previous validation
+     * @param newType   the type of the current validation
+     */
+    void add(
+        final JInputValidator validator,
+        final Type oldType,
+        final Type newType) {
+        if (size == validators.length) {
+            int capacity = size * 2;
+            validators = Arrays.copyOf(validators, capacity);
+            oldTypes = Arrays.copyOf(oldTypes, capacity);
+            newTypes = Arrays.copyOf(newTypes, capacity);
+        }
+        validators[size] = validator;
+        oldTypes[size] = oldType;
+        newTypes[size] = newType;
+        size++;
+    }
+
+    /**
+     * Remove all changes, releasing the validators.
+     */
+    void clear() {
+        Arrays.fill(validators, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Get the number of changes.
+     *
+     * @return the number of changes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the validator of a change.
+     *
+     * @param index the index of the change
+     * @return the validator
+     * @throws IndexOutOfBoundsException if index is not less than
+     *                                   {@link #size()}
+     */
+    public JInputValidator getValidator(final int index) {
+        check(index);
+        return validators[index];
+    }
+
+    /**
+     * Get the type of the previous validation of a change.
+     *
+     * @param index the index of the change
+     * @return the previous type
+     * @throws IndexOutOfBoundsException if index is not less than
+     *                                   {@link #size()}
+     */
+    public Type getOldType(final int index) {
+        check(index);
+        return oldTypes[index];
+    }
+
+    /**
+     * Get the type of the current validation of a change.
+     *
+     * @param index the index of the change
+     * @return the new type
+     * @throws IndexOutOfBoundsException if index is not less than
+     *                                   {@link #size()}
+     */
+    public Type getNewType(final int index) {
+        check(index);
+        return newTypes[index];
+    }
+
+    /**
+     * Check that an index is within the changes.
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if index is not less than
+     *                                   {@link #size()}
+     */
+    private void check(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                "index " + index + ", size " + size);
+        }
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import com.github.rhwood.jinputvalidator.rule.Severity;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * A group of {@link JInputValidator}s with an aggregate validation state,
+ * such as all the validators in a form. The group keeps a count of the
+ * validators in each {@link Validation.Type}, updated as each validator
+ * changes state, so the aggregate state is known without validating or
+ * querying every validator.
+ * <p>
+ * The aggregate state can be listened to using the property name
+ * {@code summary}, which is fired with the old and new {@link Summary} each
+ * time the number of validators in any type changes. The most severe type
+ * (see {@link #getWorstType()}) and validity (see {@link #isValid()}) are
+ * derived from the summary, so listeners interested in either compare the
+ * old and new values of {@link Summary#getWorstType()} or
+ * {@link Summary#isValid()}.
+ * <p>
+ * A ValidationGroup, like the validators in it, is expected to be used on the
+ * Event Dispatch Thread.
+ *
+ * @author Randall Wood
+ */
+public class ValidationGroup {
+
+    /**
+     * The severities in order of increasing rank.
+     */
+    private static final Severity[] SEVERITIES = Severity.values();
+    /**
+     * The validators in the group and the type of each when last notified.
+     */
+    private final Map<JInputValidator, Type> validators =
+        new LinkedHashMap<>();
+    /**
+     * The number of validators in each type, indexed by type ordinal.
+     */
+    private final int[] counts = new int[Type.values().length];
+    /**
+     * The PropertyChangeSupport for this group.
+     */
+    private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    /**
+     * The listener for changes to validators in this group.
+     */
+    private final ValidationListener listener = this::validationChanged;
+    /**
+     * The current state of the group.
+     */
+    private Summary summary = new Summary(counts, Type.NONE);
+
+    /**
+     * Create an empty ValidationGroup.
+     */
+    public ValidationGroup() {
+        // nothing to initialize
+    }
+
+    /**
+     * Add a validator to this group. Adding a validator already in the group
+     * has no effect.
+     *
+     * @param validator the validator to add; must not be null
+     */
+    public void add(final JInputValidator validator) {
+        if (validators.containsKey(validator)) {
+            return;
+        }
+        Type type = validator.getValidation().getType();
+        validators.put(validator, type);
+        counts[type.ordinal()]++;
+        validator.addValidationListener(listener);
+        update();
+    }
+
+    /**
+     * Remove a validator from this group.
+     *
+     * @param validator the validator to remove
+     */
+    public void remove(final JInputValidator validator) {
+        Type type = validators.remove(validator);
+        if (type != null) {
+            counts[type.ordinal()]--;
+            validator.removeValidationListener(listener);
+            update();
+        }
+    }
+
+    /**
+     * Get the validators in this group.
+     *
+     * @return the validators in the order added
+     */
+    public List<JInputValidator> getValidators() {
+        return Collections.unmodifiableList(
+            new ArrayList<>(validators.keySet()));
+    }
+
+    /**
+     * Get the number of validators in this group.
+     *
+     * @return the number of validators
+     */
+    public int size() {
+        return validators.size();
+    }
+
+    /**
+     * Get the number of validators in this group with the specified type.
+     *
+     * @param type the type to count
+     * @return the number of validators with type
+     */
+    public int getCount(final Type type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Get the most severe type of any validator in this group. Types are
+     * ranked by the {@linkplain Severity#getRank() rank} of their
+     * {@linkplain Validation.Type#getSeverity() severity}, so a group is only
+     * reported as successful if no validator has a type that needs more
+     * attention. This is derived from the {@linkplain #getSummary() summary}.
+     *
+     * @return the most severe type or {@link Validation.Type#NONE} if the
+     *         group is empty
+     */
+    public Type getWorstType() {
+        return summary.getWorstType();
+    }
+
+    /**
+     * Check if all validators in this group are in a valid state. This is
+     * derived from the {@linkplain #getSummary() summary}.
+     *
+     * @return {@code true} if no validator has the type
+     *         {@link Validation.Type#WARNING} or
+     *         {@link Validation.Type#DANGER}; {@code false} otherwise
+     */
+    public boolean isValid() {
+        return summary.isValid();
+    }
+
+    /**
+     * Validate all validators in this group in parallel using the
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @return a future completed with a summary of the group once all
+     *         validations are displayed
+     * @see #validateAll(java.util.concurrent.ForkJoinPool)
+     */
+    public CompletableFuture<Summary> validateAll() {
+        return validateAll(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate all validators in this group in parallel. The state of every
+     * validated component is captured on the Event Dispatch Thread, the
+     * validations are determined in parallel using pool, and all validations
+     * are then displayed in a single task on the Event Dispatch Thread.
+     * <p>
+     * Validators that cannot determine their validation from a copy of the
+     * component state (see
+     * {@link JInputValidator#getValidationTask(javax.swing.JComponent,
+     * JInputValidatorPreferences)}) are validated while capturing the state.
+     * If any validation throws an exception, no validations are displayed and
+     * the returned future completes exceptionally.
+     * <p>
+     * When called on the Event Dispatch Thread, do not block that thread
+     * waiting for the returned future, since the future cannot complete until
+     * that thread is available.
+     *
+     * @param pool the pool to validate in; must not be null
+     * @return a future completed with a summary of the group once all
+     *         validations are displayed
+     */
+    public CompletableFuture<Summary> validateAll(final ForkJoinPool pool) {
+        Executor edt = SwingUtilities::invokeLater;
+        CompletableFuture<List<ValidationTask>> snapshot;
+        if (SwingUtilities.isEventDispatchThread()) {
+            snapshot = CompletableFuture.completedFuture(snapshot());
+        } else {
+            snapshot = CompletableFuture.supplyAsync(this::snapshot, edt);
+        }
+        return snapshot
+            .thenApplyAsync(ValidationGroup::evaluate, pool)
+            .thenApplyAsync(this::apply, edt);
+    }
+
+    /**
+     * Capture the state of all validated components.
+     *
+     * @return the tasks to determine the validation of each validator
+     */
+    private List<ValidationTask> snapshot() {
+        List<ValidationTask> tasks = new ArrayList<>(validators.size());
+        for (JInputValidator validator : validators.keySet()) {
+            tasks.add(new ValidationTask(
+                validator,
+                validator.getValidationTask()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Determine the validation of each task in parallel. This must be run
+     * within the pool to run in, so the parallel stream uses that pool.
+     *
+     * @param tasks the tasks to run
+     * @return the tasks, with results
+     */
+    private static List<ValidationTask> evaluate(
+        final List<ValidationTask> tasks) {
+        tasks.parallelStream().forEach(ValidationTask::run);
+        return tasks;
+    }
+
+    /**
+     * Display the result of every task, delivering the changes to
+     * {@link BatchValidationListener}s as one batch.
+     *
+     * @param tasks the tasks with results
+     * @return a summary of the group
+     */
+    private Summary apply(final List<ValidationTask> tasks) {
+        ValidationScheduler scheduler = ValidationScheduler.getScheduler();
+        scheduler.beginBatch();
+        try {
+            for (ValidationTask task : tasks) {
+                task.validator.setValidation(task.result);
+            }
+        } finally {
+            scheduler.endBatch();
+        }
+        return getSummary();
+    }
+
+    /**
+     * Get a summary of the current state of this group. The summary does not
+     * change as the validators in this group change state. This property can
+     * be listened to using the property name {@code summary}.
+     *
+     * @return the summary
+     */
+    public Summary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Add a {@link java.beans.PropertyChangeListener} for all properties.
+     *
+     * @param propertyListener the listener to add
+     */
+    public void addPropertyChangeListener(
+        final PropertyChangeListener propertyListener) {
+        pcs.addPropertyChangeListener(propertyListener);
+    }
+
+    /**
+     * Add a {@link java.beans.PropertyChangeListener} for the named property.
+     *
+     * @param propertyName     the property to listen to
+     * @param propertyListener the listener to add
+     */
+    public void addPropertyChangeListener(
+        final String propertyName,
+        final PropertyChangeListener propertyListener) {
+        pcs.addPropertyChangeListener(propertyName, propertyListener);
+    }
+
+    /**
+     * Remove a {@link java.beans.PropertyChangeListener} for all properties.
+     *
+     * @param propertyListener the listener to remove
+     */
+    public void removePropertyChangeListener(
+        final PropertyChangeListener propertyListener) {
+        pcs.removePropertyChangeListener(propertyListener);
+    }
+
+    /**
+     * Remove a {@link java.beans.PropertyChangeListener} for the named
+     * property.
+     *
+     * @param propertyName     the property listened to
+     * @param propertyListener the listener to remove
+     */
+    public void removePropertyChangeListener(
+        final String propertyName,
+        final PropertyChangeListener propertyListener) {
+        pcs.removePropertyChangeListener(propertyName, propertyListener);
+    }
+
+    /**
+     * Update the counts when a validator in this group changes state.
+     *
+     * @param previousType the type of the previous validation
+     * @param newType      the type of the current validation
+     * @param validator    the validator
+     */
+    private void validationChanged(
+        final Type previousType,
+        final Type newType,
+        final JInputValidator validator) {
+        Type oldType = validators.get(validator);
+        if (oldType != null && oldType != newType) {
+            validators.put(validator, newType);
+            counts[oldType.ordinal()]--;
+            counts[newType.ordinal()]++;
+            update();
+        }
+    }
+
+    /**
+     * Recalculate the summary and notify listeners of the change.
+     */
+    private void update() {
+        Type newType = Type.NONE;
+        for (int i = SEVERITIES.length - 1; i > 0; i--) {
+            Type type = Type.of(SEVERITIES[i]);
+            if (counts[type.ordinal()] > 0) {
+                newType = type;
+                break;
+            }
+        }
+        Summary oldSummary = summary;
+        summary = new Summary(counts, newType);
+        pcs.firePropertyChange("summary", oldSummary, summary);
+    }
+
+    /**
+     * The state of a {@link ValidationGroup} at a point in time, such as when
+     * {@link ValidationGroup#validateAll(java.util.concurrent.ForkJoinPool)}
+     * completes.
+     */
+    public static final class Summary {
+
+        /**
+         * The number of validators in each type, indexed by type ordinal.
+         */
+        private final int[] counts;
+        /**
+         * The most severe type. (f for "field" to avoid conflict with
+         * parameter name)
+         */
+        private final Type fWorstType;
+
+        /**
+         * Create a Summary.
+         *
+         * @param typeCounts the number of validators in each type, indexed by
+         *                   type ordinal
+         * @param worstType  the most severe type
+         */
+        Summary(final int[] typeCounts, final Type worstType) {
+            this.counts = typeCounts.clone();
+            this.fWorstType = worstType;
+        }
+
+        /**
+         * Get the number of validators with the specified type.
+         *
+         * @param type the type to count
+         * @return the number of validators with type
+         */
+        public int getCount(final Type type) {
+            return counts[type.ordinal()];
+        }
+
+        /**
+         * Get the number of validators.
+         *
+         * @return the number of validators
+         */
+        public int size() {
+            int size = 0;
+            for (int count : counts) {
+                size += count;
+            }
+            return size;
+        }
+
+        /**
+         * Get the most severe type of any validator.
+         *
+         * @return the most severe type or {@link Validation.Type#NONE} if
+         *         there are no validators
+         * @see ValidationGroup#getWorstType()
+         */
+        public Type getWorstType() {
+            return fWorstType;
+        }
+
+        /**
+         * Check if all validators were in a valid state.
+         *
+         * @return {@code true} if no validator has the type
+         *         {@link Validation.Type#WARNING} or
+         *         {@link Validation.Type#DANGER}; {@code false} otherwise
+         */
+        public boolean isValid() {
+            return ValidationGroup.isValid(fWorstType);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Summary)) {
+                return false;
+            }
+            Summary other = (Summary) obj;
+            return fWorstType == other.fWorstType
+                && Arrays.equals(counts, other.counts);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(counts);
+        }
+    }
+
+    /**
+     * The validation of a single validator as part of
+     * {@link #validateAll(java.util.concurrent.ForkJoinPool)}.
+     */
+    private static final class ValidationTask {
+
+        /**
+         * The validator.
+         */
+        private final JInputValidator validator;
+        /**
+         * The task determining the validation.
+         */
+        private final Supplier<Validation> task;
+        /**
+         * The validation once determined.
+         */
+        private Validation result = null;
+
+        /**
+         * Create a ValidationTask.
+         *
+         * @param source the validator
+         * @param supplier the task determining the validation
+         */
+        ValidationTask(
+            final JInputValidator source,
+            final Supplier<Validation> supplier) {
+            this.validator = source;
+            this.task = supplier;
+        }
+
+        /**
+         * Determine the validation.
+         */
+        void run() {
+            result = task.get();
+        }
+    }
+
+    /**
+     * Check if a type is valid.
+     *
+     * @param type the type to check
+     * @return {@code false} if type is {@link Validation.Type#WARNING} or
+     *         {@link Validation.Type#DANGER}; {@code true} otherwise
+     */
+    private static boolean isValid(final Type type) {
+        return type != Type.WARNING && type != Type.DANGER;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+
+import java.util.EventListener;
+
+/**
+ * A listener for changes to the type of the validation of a
+ * {@link JInputValidator}. Changes to only the message of the validation are
+ * not reported; listen to the {@code validation} property with a
+ * {@link java.beans.PropertyChangeListener} for those. Unlike listening to
+ * the {@code validation} property, notifying a ValidationListener does not
+ * create an event object.
+ *
+ * @author Randall Wood
+ * @see JInputValidator#addValidationListener(ValidationListener)
+ * @see BatchValidationListener
+ */
+@FunctionalInterface
+public interface ValidationListener extends EventListener {
+
+    /**
+     * Called on the Event Dispatch Thread when the type of the validation of
+     * a validator changes. The types are never equal.
+     *
+     * @param oldType   the type of the previous validation
+     * @param newType   the type of the current validation
+     * @param validator the validator
+     */
+    void validationChanged(
+        Type oldType,
+        Type newType,
+        JInputValidator validator);
+}
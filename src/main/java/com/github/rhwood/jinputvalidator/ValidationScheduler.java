@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Schedules validation on input for all {@link JInputValidator}s. Validators
+ * that need to be validated are marked as dirty, and all dirty validators are
+ * validated in a single task on the Event Dispatch Thread, so any number of
+ * changes to any number of components within one cycle of the event queue
+ * costs one queued task, and each validator is validated once per cycle.
+ * <p>
+ * The scheduler counts the number of validations requested and performed, so
+ * the number of validations avoided by coalescing requests can be monitored.
+ * <p>
+ * {@link BatchValidationListener}s added to the scheduler are notified once
+ * with all the validation changes made in a cycle.
+ *
+ * @author Randall Wood
+ */
+public final class ValidationScheduler {
+
+    /**
+     * The shared scheduler.
+     */
+    private static ValidationScheduler defaultScheduler = null;
+    /**
+     * The validators to validate in the next cycle.
+     */
+    private final Set<JInputValidator> dirty = new LinkedHashSet<>();
+    /**
+     * Flag indicating a task to validate dirty validators is queued.
+     */
+    private boolean queued = false;
+    /**
+     * The number of validations requested.
+     */
+    private long requestCount = 0;
+    /**
+     * The number of validations performed.
+     */
+    private long validationCount = 0;
+    /**
+     * The number of tasks queued on the Event Dispatch Thread.
+     */
+    private long cycleCount = 0;
+    /**
+     * The listeners for batches of changes; replaced, not modified, when
+     * listeners are added or removed.
+     */
+    private volatile BatchValidationListener[] batchListeners =
+        new BatchValidationListener[0];
+    /**
+     * The changes not yet delivered to batch listeners. Only used on the
+     * Event Dispatch Thread.
+     */
+    private ValidationChanges changes = new ValidationChanges();
+    /**
+     * The changes being delivered to batch listeners. Only used on the Event
+     * Dispatch Thread.
+     */
+    private ValidationChanges delivering = new ValidationChanges();
+    /**
+     * The number of open batches; changes are delivered when no batch is
+     * open. Only used on the Event Dispatch Thread.
+     */
+    private int batchDepth = 0;
+
+    private ValidationScheduler() {
+        // prevent construction outside of getScheduler()
+    }
+
+    /**
+     * Get the shared scheduler.
+     *
+     * @return the scheduler
+     */
+    public static synchronized ValidationScheduler getScheduler() {
+        if (defaultScheduler == null) {
+            defaultScheduler = new ValidationScheduler();
+        }
+        return defaultScheduler;
+    }
+
+    /**
+     * Schedule a validator to be validated in the next cycle of the event
+     * queue. If the validator is already scheduled, this has no effect other
+     * than being counted as a coalesced request. This can be called from any
+     * thread.
+     *
+     * @param validator the validator to validate; must not be null
+     */
+    public void schedule(final JInputValidator validator) {
+        boolean post = false;
+        synchronized (this) {
+            requestCount++;
+            dirty.add(validator);
+            if (!queued) {
+                queued = true;
+                cycleCount++;
+                post = true;
+            }
+        }
+        if (post) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    /**
+     * Get the number of validations requested.
+     *
+     * @return the number of requests
+     */
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Get the number of validations performed.
+     *
+     * @return the number of validations
+     */
+    public synchronized long getValidationCount() {
+        return validationCount;
+    }
+
+    /**
+     * Get the number of requested validations that were not performed
+     * because the validator was already scheduled.
+     *
+     * @return the number of coalesced validations
+     */
+    public synchronized long getCoalescedCount() {
+        return requestCount - validationCount - dirty.size();
+    }
+
+    /**
+     * Get the number of tasks queued on the Event Dispatch Thread to perform
+     * validations.
+     *
+     * @return the number of tasks
+     */
+    public synchronized long getCycleCount() {
+        return cycleCount;
+    }
+
+    /**
+     * Add a listener notified with the validation changes of all validators.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addBatchValidationListener(
+        final BatchValidationListener listener) {
+        BatchValidationListener[] listeners =
+            Arrays.copyOf(batchListeners, batchListeners.length + 1);
+        listeners[batchListeners.length] = listener;
+        batchListeners = listeners;
+    }
+
+    /**
+     * Remove a listener notified with the validation changes of all
+     * validators.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removeBatchValidationListener(
+        final BatchValidationListener listener) {
+        List<BatchValidationListener> listeners =
+            new ArrayList<>(Arrays.asList(batchListeners));
+        if (listeners.remove(listener)) {
+            batchListeners =
+                listeners.toArray(new BatchValidationListener[0]);
+        }
+    }
+
+    /**
+     * Get the listeners notified with the validation changes of all
+     * validators.
+     *
+     * @return the listeners
+     */
+    public BatchValidationListener[] getBatchValidationListeners() {
+        return batchListeners.clone();
+    }
+
+    /**
+     * Record a change to the validation of a validator for the batch
+     * listeners. This must be called on the Event Dispatch Thread.
+     *
+     * @param validator the validator
+     * @param oldType   the type of the previous validation
+     * @param newType   the type of the current validation
+     */
+    void validationChanged(
+        final JInputValidator validator,
+        final Type oldType,
+        final Type newType) {
+        if (batchListeners.length == 0) {
+            return;
+        }
+        changes.add(validator, oldType, newType);
+        if (batchDepth == 0) {
+            deliver();
+        }
+    }
+
+    /**
+     * Start collecting validation changes to deliver to batch listeners as
+     * one batch. Every call must be followed by a call to
+     * {@link #endBatch()}. This must be called on the Event Dispatch Thread.
+     */
+    void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Deliver the validation changes collected since the matching call to
+     * {@link #beginBatch()}, unless within another batch. This must be
+     * called on the Event Dispatch Thread.
+     */
+    void endBatch() {
+        batchDepth--;
+        if (batchDepth == 0 && changes.size() > 0) {
+            deliver();
+        }
+    }
+
+    /**
+     * Deliver the collected changes to batch listeners. Changes made by the
+     * listeners are delivered in a following batch.
+     */
+    private void deliver() {
+        batchDepth++;
+        try {
+            while (changes.size() > 0) {
+                ValidationChanges batch = changes;
+                changes = delivering;
+                delivering = batch;
+                try {
+                    for (BatchValidationListener listener : batchListeners) {
+                        listener.validationsChanged(batch);
+                    }
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            batchDepth--;
+        }
+    }
+
+    /**
+     * Validate all dirty validators, delivering the changes to batch
+     * listeners as one batch.
+     */
+    private void drain() {
+        List<JInputValidator> validators;
+        synchronized (this) {
+            validators = new ArrayList<>(dirty);
+            dirty.clear();
+            queued = false;
+            validationCount += validators.size();
+        }
+        beginBatch();
+        try {
+            for (JInputValidator validator : validators) {
+                validator.verify(validator.getComponent());
+            }
+        } finally {
+            endBatch();
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.github.rhwood.jinputvalidator;
 
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+
 import javax.swing.InputVerifier;
 import javax.swing.JComponent;
 
@@ -32,15 +34,16 @@ public class VerifyingValidator extends JInputValidator {
      */
     private final InputVerifier fVerifier;
     /**
-     * The validation to use when the verifier returns true. (f for "field"
-     * to avoid conflict with parameter name)
+     * The result to use when the verifier returns true or null to retain the
+     * tool tip of the component. (f for "field" to avoid conflict with
+     * parameter name)
      */
-    private final Validation fValid;
+    private final RuleResult fValid;
     /**
-     * The validation to use when the verifier returns false. (f for "field"
+     * The result to use when the verifier returns false. (f for "field"
      * to avoid conflict with parameter name)
      */
-    private final Validation fInvalid;
+    private final RuleResult fInvalid;
 
     /**
      * Create a VerifyingValidator with a valid {@link Validation} of type
@@ -125,11 +128,11 @@ public class VerifyingValidator extends JInputValidator {
         final JInputValidatorPreferences preferences) {
         super(component, onInput, isVerifying, preferences);
         this.fVerifier = verifier;
-        this.fInvalid = new Validation(invalid, preferences);
+        this.fInvalid = invalid.getResult();
         if (valid != null) {
-            this.fValid = new Validation(valid, preferences);
+            this.fValid = valid.getResult();
         } else {
-            this.fValid = getNoneValidation();
+            this.fValid = null;
         }
     }
 
@@ -146,9 +149,13 @@ public class VerifyingValidator extends JInputValidator {
     protected Validation getValidation(
         final JComponent input,
         final JInputValidatorPreferences preferences) {
-        return new Validation(
-            fVerifier.verify(input) ? fValid : fInvalid,
-            preferences);
+        if (!fVerifier.verify(input)) {
+            return Validation.of(fInvalid, preferences);
+        }
+        if (fValid == null) {
+            return getNoneValidation();
+        }
+        return Validation.of(fValid, preferences);
     }
 
 }
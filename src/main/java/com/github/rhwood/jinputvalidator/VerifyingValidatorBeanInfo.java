@@ -36,6 +36,7 @@ public class VerifyingValidatorBeanInfo extends AbstractValidatorBeanInfo {
     // Bean descriptor
     /* lazy BeanDescriptor */
     private static BeanDescriptor getBdescriptor() {
+        BUILDS.incrementAndGet();
         return new BeanDescriptor(VerifyingValidator.class, null);
     }
 
@@ -47,6 +48,7 @@ public class VerifyingValidatorBeanInfo extends AbstractValidatorBeanInfo {
     // Property array
     /* lazy PropertyDescriptor */
     private static PropertyDescriptor[] getPdescriptor() {
+        BUILDS.incrementAndGet();
         PropertyDescriptor[] properties = new PropertyDescriptor[3];
 
         try {
@@ -63,6 +65,10 @@ public class VerifyingValidatorBeanInfo extends AbstractValidatorBeanInfo {
         return properties;
     }
 
+    // Descriptors, built once since building them uses reflection
+    private static final BeanDescriptor BEAN_DESCRIPTOR = getBdescriptor();
+    private static final PropertyDescriptor[] PROPERTIES = getPdescriptor();
+
     /**
      * Construct a {@code VerifyingValidatorBeanInfo }
      */
@@ -79,7 +85,7 @@ public class VerifyingValidatorBeanInfo extends AbstractValidatorBeanInfo {
      */
     @Override
     public BeanDescriptor getBeanDescriptor() {
-        return getBdescriptor();
+        return BEAN_DESCRIPTOR;
     }
 
     /**
@@ -97,7 +103,7 @@ public class VerifyingValidatorBeanInfo extends AbstractValidatorBeanInfo {
      */
     @Override
     public PropertyDescriptor[] getPropertyDescriptors() {
-        return getPdescriptor();
+        return PROPERTIES.clone();
     }
 
 }
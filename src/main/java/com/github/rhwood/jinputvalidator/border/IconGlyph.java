@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.Validation;
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The outline and metrics of a validation icon in a font, laid out once and
+ * shared, so painting an icon only fills a shape. Since the outline is a
+ * shape and not a raster, it is drawn sharply at any scale, including on
+ * HiDPI displays.
+ *
+ * @author Randall Wood
+ */
+final class IconGlyph {
+
+    /**
+     * The context to lay out icons in: no transform, antialiased, with
+     * fractional metrics.
+     */
+    private static final FontRenderContext CONTEXT =
+        new FontRenderContext(null, true, true);
+    /**
+     * The maximum number of shared icons.
+     */
+    private static final int MAX_CACHED = 256;
+    /**
+     * The shared icons.
+     */
+    private static final ConcurrentHashMap<Key, IconGlyph> CACHE =
+        new ConcurrentHashMap<>();
+    /**
+     * The outline of the icon with the origin on the baseline.
+     */
+    private final Shape outline;
+    /**
+     * The width of the icon.
+     */
+    private final int width;
+    /**
+     * The ascent of the icon.
+     */
+    private final int ascent;
+
+    /**
+     * Create an IconGlyph.
+     *
+     * @param font the font to use
+     * @param icon the icon text
+     */
+    private IconGlyph(final Font font, final String icon) {
+        GlyphVector glyphs = font.createGlyphVector(CONTEXT, icon);
+        LineMetrics metrics = font.getLineMetrics(icon, CONTEXT);
+        this.outline = glyphs.getOutline();
+        this.width = (int) Math.round(glyphs.getLogicalBounds().getWidth());
+        this.ascent = Math.round(metrics.getAscent());
+    }
+
+    /**
+     * Create an IconGlyph from a laid out outline.
+     *
+     * @param shape   the outline with the origin on the baseline
+     * @param advance the width of the icon
+     * @param top     the ascent of the icon
+     */
+    IconGlyph(final Shape shape, final int advance, final int top) {
+        this.outline = shape;
+        this.width = advance;
+        this.ascent = top;
+    }
+
+    /**
+     * Get the shared IconGlyph for an icon.
+     *
+     * @param font the font to use
+     * @param icon the icon text
+     * @return the shared glyph
+     */
+    static IconGlyph get(final Font font, final String icon) {
+        Key key = new Key(font, icon);
+        IconGlyph glyph = CACHE.get(key);
+        if (glyph == null) {
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            glyph = new IconGlyph(font, icon);
+            IconGlyph shared = CACHE.putIfAbsent(key, glyph);
+            if (shared != null) {
+                glyph = shared;
+            }
+        }
+        return glyph;
+    }
+
+    /**
+     * Get the laid out icon for a validation in a font size. The icon is laid
+     * out from the outlines generated when building if available, so the font
+     * does not need to be loaded.
+     *
+     * @param validation the validation
+     * @param size       the font size
+     * @return the laid out icon
+     */
+    static IconGlyph get(final Validation validation, final int size) {
+        IconGlyph glyph = IconOutlines.getDefault().getGlyph(
+            validation.getFontPath(),
+            validation.getIcon(),
+            size);
+        if (glyph == null) {
+            glyph = get(
+                validation.getFont().deriveFont(Font.BOLD, size),
+                validation.getIcon());
+        }
+        return glyph;
+    }
+
+    /**
+     * Get the outline of the icon with the origin on the baseline at the
+     * left of the icon.
+     *
+     * @return the outline
+     */
+    Shape getOutline() {
+        return outline;
+    }
+
+    /**
+     * Get the width of the icon.
+     *
+     * @return the advance of the icon, rounded to the nearest pixel
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the ascent of the font for the icon.
+     *
+     * @return the ascent, rounded to the nearest pixel
+     */
+    int getAscent() {
+        return ascent;
+    }
+
+    /**
+     * The key for a shared icon.
+     */
+    private static final class Key {
+
+        /**
+         * A prime number used in hashCode calculations.
+         */
+        private static final int HASH_PRIME = 31;
+        /**
+         * The font.
+         */
+        private final Font font;
+        /**
+         * The icon text.
+         */
+        private final String icon;
+
+        /**
+         * Create a Key.
+         *
+         * @param iconFont the font
+         * @param iconText the icon text
+         */
+        Key(final Font iconFont, final String iconText) {
+            this.font = iconFont;
+            this.icon = iconText;
+        }
+
+        @Override
+        public int hashCode() {
+            return HASH_PRIME * font.hashCode() + Objects.hashCode(icon);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return font.equals(other.font)
+                && Objects.equals(icon, other.icon);
+        }
+    }
+}
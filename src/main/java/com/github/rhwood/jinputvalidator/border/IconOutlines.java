@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Precomputed outlines of validation icons, generated from the icon font for
+ * the default icons and included as a resource, so the default icons can be
+ * drawn without reading and parsing the icon font. Outlines are stored for a
+ * font size of 1 and scaled when used. The outlines are written by the
+ * IconOutlinesGenerator tool in the tests.
+ *
+ * @author Randall Wood
+ */
+final class IconOutlines {
+
+    /**
+     * The path of the resource containing the outlines of the default icons.
+     */
+    static final String RESOURCE =
+        "/com/github/rhwood/jinputvalidator/icons.outlines";
+    /**
+     * The version of the format of the outlines.
+     */
+    static final int VERSION = 1;
+    /**
+     * Marks the end of the segments of an outline.
+     */
+    static final int END = -1;
+    /**
+     * The number of coordinates used by each type of path segment, indexed
+     * by {@link PathIterator} segment type.
+     */
+    private static final int[] COORDINATES = {2, 2, 4, 6, 0};
+    /**
+     * The path of the font the outlines were generated from.
+     */
+    private final String fontPath;
+    /**
+     * The outlines, keyed by icon.
+     */
+    private final Map<String, Outline> outlines;
+
+    /**
+     * Create IconOutlines.
+     *
+     * @param path  the path of the font the outlines are from
+     * @param icons the outlines
+     */
+    private IconOutlines(final String path, final Map<String, Outline> icons) {
+        this.fontPath = path;
+        this.outlines = icons;
+    }
+
+    /**
+     * Get the outlines of the default icons. The outlines are read when this
+     * is first called.
+     *
+     * @return the outlines, which are empty if the outlines resource is
+     *         missing
+     */
+    static IconOutlines getDefault() {
+        return Default.INSTANCE;
+    }
+
+    /**
+     * Get the laid out icon for a font size, if the outline of the icon in a
+     * font is available.
+     *
+     * @param path the path of the font
+     * @param icon the icon text
+     * @param size the font size
+     * @return the laid out icon or null if not available
+     */
+    IconGlyph getGlyph(final String path, final String icon, final float size) {
+        Outline outline = outlines.get(icon);
+        if (outline == null || !fontPath.equals(path)) {
+            return null;
+        }
+        return new IconGlyph(
+            AffineTransform.getScaleInstance(size, size)
+                .createTransformedShape(outline.shape),
+            Math.round(outline.width * size),
+            Math.round(outline.ascent * size));
+    }
+
+    /**
+     * Get the number of icons with outlines.
+     *
+     * @return the number of icons
+     */
+    int size() {
+        return outlines.size();
+    }
+
+    /**
+     * Read outlines.
+     *
+     * @param stream the stream to read from
+     * @return the outlines
+     * @throws IOException if unable to read
+     */
+    static IconOutlines read(final InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != VERSION) {
+            throw new IOException("Unsupported icon outline version");
+        }
+        String path = in.readUTF();
+        int count = in.readInt();
+        Map<String, Outline> icons = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String icon = in.readUTF();
+            float width = in.readFloat();
+            float ascent = in.readFloat();
+            Path2D.Float shape = new Path2D.Float(in.readByte());
+            int type = in.readByte();
+            while (type != END) {
+                readSegment(in, shape, type);
+                type = in.readByte();
+            }
+            icons.put(icon, new Outline(shape, width, ascent));
+        }
+        return new IconOutlines(path, icons);
+    }
+
+    /**
+     * Get the number of coordinates used by a type of path segment.
+     *
+     * @param type the {@link PathIterator} segment type
+     * @return the number of coordinates
+     */
+    static int getCoordinateCount(final int type) {
+        return COORDINATES[type];
+    }
+
+    /**
+     * Read a path segment.
+     *
+     * @param in    the stream to read from
+     * @param shape the shape to add the segment to
+     * @param type  the {@link PathIterator} segment type
+     * @throws IOException if unable to read or type is invalid
+     */
+    private static void readSegment(
+        final DataInputStream in,
+        final Path2D.Float shape,
+        final int type) throws IOException {
+        if (type < 0 || type >= COORDINATES.length) {
+            throw new IOException("Invalid segment type " + type);
+        }
+        float[] c = new float[COORDINATES[type]];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = in.readFloat();
+        }
+        switch (type) {
+            case PathIterator.SEG_MOVETO:
+                shape.moveTo(c[0], c[1]);
+                break;
+            case PathIterator.SEG_LINETO:
+                shape.lineTo(c[0], c[1]);
+                break;
+            case PathIterator.SEG_QUADTO:
+                shape.quadTo(c[0], c[1], c[2], c[3]);
+                break;
+            case PathIterator.SEG_CUBICTO:
+                shape.curveTo(c[0], c[1], c[2], c[3], c[4], c[5]);
+                break;
+            default:
+                shape.closePath();
+                break;
+        }
+    }
+
+    /**
+     * The outline of an icon at a font size of 1.
+     */
+    private static final class Outline {
+
+        /**
+         * The outline with the origin on the baseline.
+         */
+        private final Shape shape;
+        /**
+         * The advance of the icon.
+         */
+        private final float width;
+        /**
+         * The ascent of the font for the icon.
+         */
+        private final float ascent;
+
+        /**
+         * Create an Outline.
+         *
+         * @param outline the outline
+         * @param advance the advance
+         * @param top     the ascent
+         */
+        Outline(final Shape outline, final float advance, final float top) {
+            this.shape = outline;
+            this.width = advance;
+            this.ascent = top;
+        }
+    }
+
+    /**
+     * Holder of the default outlines, read when first used.
+     */
+    private static final class Default {
+
+        /**
+         * The default outlines.
+         */
+        private static final IconOutlines INSTANCE = load();
+
+        private Default() {
+            // prevent instantiation
+        }
+
+        /**
+         * Read the default outlines.
+         *
+         * @return the outlines or empty outlines if not available
+         */
+        private static IconOutlines load() {
+            try (InputStream stream =
+                IconOutlines.class.getResourceAsStream(RESOURCE)) {
+                if (stream != null) {
+                    return read(stream);
+                }
+            } catch (IOException ex) {
+                Logger.getLogger(IconOutlines.class.getName()).log(
+                    Level.WARNING,
+                    "Unable to read icon outlines; using icon font",
+                    ex);
+            }
+            return new IconOutlines("", Collections.emptyMap());
+        }
+    }
+}
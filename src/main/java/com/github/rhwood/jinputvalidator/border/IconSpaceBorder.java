@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.JInputValidatorPreferences;
+import com.github.rhwood.jinputvalidator.Validation;
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Insets;
+import javax.swing.border.AbstractBorder;
+import javax.swing.border.Border;
+
+/**
+ * A border that always reserves space for a validation icon to the right of
+ * the input being validated, drawing the icon of the current validation, if
+ * any, in that space. Since the insets of this border do not change with the
+ * validation, changing the validation only requires repainting the icon with
+ * {@link #repaintIcon(java.awt.Component)}, not laying out the component or
+ * its container again.
+ * <p>
+ * The space reserved is the widest of the icons for all validation types in
+ * the preferences used to create this border.
+ *
+ * @author Randall Wood
+ */
+public class IconSpaceBorder extends AbstractBorder {
+
+    /**
+     * Serial version UID. (required since extending java.io.Serializable)
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * The types with icons.
+     */
+    private static final Type[] TYPES = Type.values();
+    /**
+     * The original border of the component being validated. (f for "field"
+     * to avoid conflict with parameter name)
+     */
+    private final Border fOriginalBorder;
+    /**
+     * The preferences icons are drawn with. (f for "field" to avoid conflict
+     * with parameter name)
+     */
+    private final transient JInputValidatorPreferences fPreferences;
+    /**
+     * The validation drawn. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private transient Validation fValidation = null;
+    /**
+     * The font size the reserved space was calculated for.
+     */
+    private int reservedSize = -1;
+    /**
+     * The width of the reserved space.
+     */
+    private int reservedWidth = 0;
+
+    /**
+     * Create an IconSpaceBorder that does not draw an icon.
+     *
+     * @param originalBorder the original border of the component being
+     *                       validated; must not be null
+     * @param preferences    the preferences to draw icons with; must not be
+     *                       null
+     */
+    public IconSpaceBorder(
+        final Border originalBorder,
+        final JInputValidatorPreferences preferences) {
+        this.fOriginalBorder = originalBorder;
+        this.fPreferences = preferences;
+    }
+
+    /**
+     * Set the validation to draw the icon for. This does not repaint any
+     * component using this border; call
+     * {@link #repaintIcon(java.awt.Component)} for that.
+     *
+     * @param validation the validation or null to not draw an icon
+     */
+    public void setValidation(final Validation validation) {
+        fValidation = validation;
+    }
+
+    /**
+     * Get the validation the icon is drawn for.
+     *
+     * @return the validation or null if not drawing an icon
+     */
+    public Validation getValidation() {
+        return fValidation;
+    }
+
+    /**
+     * Repaint only the area of a component containing the icon.
+     *
+     * @param c the component using this border
+     */
+    public void repaintIcon(final Component c) {
+        int right = getBorderInsets(c).right;
+        c.repaint(c.getWidth() - right, 0, right, c.getHeight());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void paintBorder(
+        final Component c,
+        final Graphics g,
+        final int x,
+        final int y,
+        final int width,
+        final int height) {
+        Validation validation = fValidation;
+        if (validation != null && validation.getType() != Type.NONE) {
+            getBorder(c, validation).paintBorder(c, g, x, y, width, height);
+        } else {
+            fOriginalBorder.paintBorder(c, g, x, y, width, height);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Insets getBorderInsets(final Component c, final Insets insets) {
+        Insets original = fOriginalBorder.getBorderInsets(c);
+        insets.top = original.top;
+        insets.left = original.left;
+        insets.bottom = original.bottom;
+        insets.right = original.right + getReservedWidth(c);
+        return insets;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBorderOpaque() {
+        return fOriginalBorder.isBorderOpaque();
+    }
+
+    /**
+     * Get the width reserved for icons in the font size of a component.
+     *
+     * @param c the component
+     * @return the width of the widest icon
+     */
+    private int getReservedWidth(final Component c) {
+        int size = getFontSize(c);
+        if (size != reservedSize) {
+            int original = fOriginalBorder.getBorderInsets(c).right;
+            int width = 0;
+            for (Type type : TYPES) {
+                if (type != Type.NONE) {
+                    Validation validation = Validation.of(
+                        type,
+                        null,
+                        fPreferences);
+                    width = Math.max(
+                        width,
+                        getBorder(c, validation).getBorderInsets(c).right
+                            - original);
+                }
+            }
+            reservedWidth = width;
+            reservedSize = size;
+        }
+        return reservedWidth;
+    }
+
+    /**
+     * Get the shared border drawing a validation.
+     *
+     * @param c          the component
+     * @param validation the validation
+     * @return the border
+     */
+    private ValidatorBorder getBorder(
+        final Component c,
+        final Validation validation) {
+        return ValidatorBorder.getBorder(
+            validation,
+            fOriginalBorder,
+            getFontSize(c));
+    }
+
+    /**
+     * Get the font size of a component.
+     *
+     * @param c the component
+     * @return the font size or 0 if the component has no font
+     */
+    private static int getFontSize(final Component c) {
+        Font font = c.getFont();
+        if (font == null) {
+            return 0;
+        }
+        return font.getSize();
+    }
+}
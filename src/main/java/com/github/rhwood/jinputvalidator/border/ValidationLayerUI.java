@@ -0,0 +1,466 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.Validation;
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentEvent;
+import java.awt.event.HierarchyEvent;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import javax.swing.JComponent;
+import javax.swing.JLayer;
+import javax.swing.SwingUtilities;
+import javax.swing.border.Border;
+import javax.swing.plaf.LayerUI;
+
+/**
+ * A {@link LayerUI} that draws the validation icons of all components within
+ * a {@link JLayer} over those components, instead of replacing the border of
+ * each component with a {@link ValidatorBorder}. Icons are drawn in the same
+ * place as by a ValidatorBorder, inside the right edge of the component, but
+ * since the border of the component is not changed, space for the icon is
+ * not added to the component.
+ * <p>
+ * The icons are kept in an index of their bounds in the layer, ordered by
+ * their top edge, so painting an area of the layer only visits the icons in
+ * that area, and changing the validation of a component only repaints the
+ * area of its icon. When a component in the layer is moved or resized, only
+ * the icons of that component and its descendants are relocated.
+ * <p>
+ * Icons are only drawn for components showing in the layer, and are clipped
+ * to the visible area of their component, so icons of components on hidden
+ * tabs or scrolled out of view are not drawn over other content. Components
+ * are held weakly, so a component discarded without clearing its validation
+ * does not remain in memory.
+ * <p>
+ * To use, wrap the container of the validated components in a JLayer using
+ * this UI, and set this UI as the overlay of each validator (see
+ * {@link com.github.rhwood.jinputvalidator.JInputValidator#setOverlay}).
+ * A ValidationLayerUI can only be used by one JLayer at a time, and, like
+ * the validators, must be used on the Event Dispatch Thread.
+ *
+ * @author Randall Wood
+ */
+public class ValidationLayerUI extends LayerUI<JComponent> {
+
+    /**
+     * Serial version UID. (required since extending java.io.Serializable)
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * No icons.
+     */
+    private static final Icon[] NONE = new Icon[0];
+    /**
+     * Order of icons in the index.
+     */
+    private static final Comparator<Icon> BY_TOP =
+        Comparator.comparingInt(icon -> icon.bounds.y);
+    /**
+     * The icons drawn, by component. Components do not override equals, so
+     * keys are compared by identity.
+     */
+    private final transient Map<JComponent, Icon> icons =
+        new WeakHashMap<>();
+    /**
+     * The icons drawn, ordered by the top of their bounds.
+     */
+    private transient Icon[] index = NONE;
+    /**
+     * The height of the tallest icon in the index.
+     */
+    private int maxHeight = 0;
+    /**
+     * Flag indicating the index must be rebuilt before use.
+     */
+    private boolean stale = false;
+    /**
+     * The layer using this UI.
+     */
+    private transient JLayer<?> layer = null;
+
+    /**
+     * Create a ValidationLayerUI with no icons.
+     */
+    public ValidationLayerUI() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void installUI(final JComponent c) {
+        super.installUI(c);
+        layer = (JLayer<?>) c;
+        layer.setLayerEventMask(
+            AWTEvent.COMPONENT_EVENT_MASK | AWTEvent.HIERARCHY_EVENT_MASK);
+        moved(layer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void uninstallUI(final JComponent c) {
+        layer.setLayerEventMask(0);
+        layer = null;
+        super.uninstallUI(c);
+    }
+
+    /**
+     * Set the validation to draw the icon of for a component in the layer.
+     * This repaints the areas of the previous and new icons of the component.
+     *
+     * @param component  the component
+     * @param validation the validation or null to not draw an icon
+     */
+    public void setValidation(
+        final JComponent component,
+        final Validation validation) {
+        Icon old;
+        if (validation == null || validation.getType() == Type.NONE) {
+            old = icons.remove(component);
+        } else {
+            Icon icon = new Icon(validation);
+            old = icons.put(component, icon);
+            icon.locate(component, layer);
+            repaint(icon);
+        }
+        repaint(old);
+        stale = true;
+    }
+
+    /**
+     * Get the validation an icon is drawn for.
+     *
+     * @param component the component
+     * @return the validation or null if no icon is drawn for component
+     */
+    public Validation getValidation(final JComponent component) {
+        Icon icon = icons.get(component);
+        if (icon == null) {
+            return null;
+        }
+        return icon.validation;
+    }
+
+    /**
+     * Get the bounds of the icon drawn for a component.
+     *
+     * @param component the component
+     * @return the bounds in the layer or null if no icon is drawn for
+     *         component or component is not in the layer
+     */
+    Rectangle getIconBounds(final JComponent component) {
+        Icon icon = icons.get(component);
+        if (icon == null || icon.bounds == null) {
+            return null;
+        }
+        return new Rectangle(icon.bounds);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The icons are drawn over the layer after the view.
+     */
+    @Override
+    public void paint(final Graphics g, final JComponent c) {
+        super.paint(g, c);
+        Icon[] visible = getIndex();
+        if (visible.length == 0) {
+            return;
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, c.getWidth(), c.getHeight());
+        }
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            g2d.setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+            int bottom = clip.y + clip.height;
+            for (int i = first(visible, clip.y - maxHeight);
+                i < visible.length && visible[i].bounds.y < bottom;
+                i++) {
+                Icon icon = visible[i];
+                if (icon.bounds.intersects(clip)) {
+                    Graphics2D g2i = (Graphics2D) g2d.create();
+                    try {
+                        g2i.clip(icon.visible);
+                        g2i.setColor(icon.validation.getColor());
+                        g2i.translate(icon.origin.x, icon.origin.y);
+                        g2i.fill(icon.glyph.getOutline());
+                    } finally {
+                        g2i.dispose();
+                    }
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void doLayout(final JLayer<? extends JComponent> l) {
+        super.doLayout(l);
+        moved(l);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void processComponentEvent(
+        final ComponentEvent e,
+        final JLayer<? extends JComponent> l) {
+        moved(e.getComponent());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void processHierarchyEvent(
+        final HierarchyEvent e,
+        final JLayer<? extends JComponent> l) {
+        if ((e.getChangeFlags() & (HierarchyEvent.PARENT_CHANGED
+            | HierarchyEvent.SHOWING_CHANGED)) != 0) {
+            moved(e.getChanged());
+        }
+    }
+
+    /**
+     * Relocate the icons of a component and its descendants after the
+     * component moved, repainting the areas of icons that moved.
+     *
+     * @param moved the component that moved; may be null
+     */
+    private void moved(final Component moved) {
+        if (moved == null) {
+            return;
+        }
+        for (Map.Entry<JComponent, Icon> entry : icons.entrySet()) {
+            JComponent component = entry.getKey();
+            if (component == null
+                || (component != moved
+                && !SwingUtilities.isDescendingFrom(component, moved))) {
+                continue;
+            }
+            Icon icon = entry.getValue();
+            Rectangle old = icon.bounds;
+            icon.locate(component, layer);
+            if (!Objects.equals(old, icon.bounds)) {
+                if (old != null && layer != null) {
+                    layer.repaint(old);
+                }
+                repaint(icon);
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * Get the index of icons, rebuilding it if stale.
+     *
+     * @return the icons in the layer ordered by the top of their bounds
+     */
+    private Icon[] getIndex() {
+        if (stale) {
+            Icon[] located = new Icon[icons.size()];
+            int count = 0;
+            int tallest = 0;
+            for (Icon icon : icons.values()) {
+                if (icon.bounds != null) {
+                    located[count] = icon;
+                    count++;
+                    tallest = Math.max(tallest, icon.bounds.height);
+                }
+            }
+            located = Arrays.copyOf(located, count);
+            Arrays.sort(located, BY_TOP);
+            index = located;
+            maxHeight = tallest;
+            stale = false;
+        }
+        return index;
+    }
+
+    /**
+     * Find the first icon in the index with a top at or below a coordinate.
+     *
+     * @param sorted the index
+     * @param y      the coordinate
+     * @return the position in the index of the first icon or the length of
+     *         the index if no icon is at or below y
+     */
+    private static int first(final Icon[] sorted, final int y) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].bounds.y < y) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Repaint the area of an icon.
+     *
+     * @param icon the icon; may be null
+     */
+    private void repaint(final Icon icon) {
+        if (layer != null && icon != null && icon.bounds != null) {
+            layer.repaint(icon.bounds);
+        }
+    }
+
+    /**
+     * Check if a component is showing in a layer. When the layer is showing,
+     * this is {@link Component#isShowing()}; otherwise, so icons can be
+     * located before the layer is shown, the component and all its ancestors
+     * within the layer must be visible.
+     *
+     * @param component the component
+     * @param l         the layer
+     * @return {@code true} if component is showing in l; {@code false}
+     *         otherwise
+     */
+    private static boolean isShowing(
+        final Component component,
+        final JLayer<?> l) {
+        if (l.isShowing()) {
+            return component.isShowing()
+                && SwingUtilities.isDescendingFrom(component, l);
+        }
+        for (Component c = component; c != l; c = c.getParent()) {
+            if (c == null || !c.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A validation icon for a component. An icon does not refer to its
+     * component, so components can be held weakly.
+     */
+    private static final class Icon {
+
+        /**
+         * The validation.
+         */
+        private final Validation validation;
+        /**
+         * The laid out icon.
+         */
+        private IconGlyph glyph = null;
+        /**
+         * The font size the glyph is laid out for.
+         */
+        private int glyphSize = 0;
+        /**
+         * The origin of the icon in the layer.
+         */
+        private Point origin = null;
+        /**
+         * The visible area of the component in the layer.
+         */
+        private Rectangle visible = null;
+        /**
+         * The visible bounds of the icon in the layer or null if the icon is
+         * not visible in the layer.
+         */
+        private Rectangle bounds = null;
+
+        /**
+         * Create an Icon.
+         *
+         * @param v the validation
+         */
+        Icon(final Validation v) {
+            this.validation = v;
+        }
+
+        /**
+         * Locate this icon in a layer, reusing the laid out glyph unless the
+         * font size of the component changed.
+         *
+         * @param component the component the icon is for
+         * @param l         the layer
+         */
+        void locate(final JComponent component, final JLayer<?> l) {
+            bounds = null;
+            if (l == null
+                || component.getFont() == null
+                || !isShowing(component, l)) {
+                return;
+            }
+            Rectangle shown = component.getVisibleRect();
+            if (shown.isEmpty()) {
+                return;
+            }
+            int size = component.getFont().getSize();
+            if (glyph == null || glyphSize != size) {
+                glyph = IconGlyph.get(validation, size);
+                glyphSize = size;
+            }
+            Insets insets = new Insets(0, 0, 0, 0);
+            Border border = component.getBorder();
+            if (border != null) {
+                insets = border.getBorderInsets(component);
+            }
+            Point local = ValidatorBorder.getIconOrigin(
+                component,
+                insets,
+                insets.left,
+                insets.top,
+                component.getWidth() - insets.left - insets.right,
+                glyph);
+            origin = SwingUtilities.convertPoint(component, local, l);
+            visible = SwingUtilities.convertRectangle(component, shown, l);
+            Rectangle shape = glyph.getOutline().getBounds();
+            shape.translate(origin.x, origin.y);
+            // antialiased edges
+            shape.grow(1, 1);
+            shape = shape.intersection(visible);
+            if (!shape.isEmpty()) {
+                bounds = shape;
+            }
+        }
+    }
+}
@@ -16,13 +16,18 @@
 package com.github.rhwood.jinputvalidator.border;
 
 import com.github.rhwood.jinputvalidator.Validation;
+import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import java.awt.Point;
 import java.awt.RenderingHints;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.swing.UIManager;
 import javax.swing.border.AbstractBorder;
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
@@ -31,6 +36,10 @@ import javax.swing.border.CompoundBorder;
  * A CompoundBorder that draws an inner border that contains the validation
  * icon to the right of the input being validated. The outer border is the
  * original border of the component this border is attached to.
+ * <p>
+ * Use {@link #getBorder(com.github.rhwood.jinputvalidator.Validation,
+ * javax.swing.border.Border, int)} to get a shared border instead of creating
+ * a new border each time a component changes validation state.
  *
  * @author Randall Wood
  */
@@ -40,20 +49,65 @@ public class ValidatorBorder extends CompoundBorder {
      * Serial version UID. (required since extending java.io.Serializable)
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The maximum number of shared borders.
+     */
+    private static final int MAX_CACHED = 256;
+    /**
+     * The initial capacity of the shared borders.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The load factor of the shared borders.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+    /**
+     * Multiplier to apply to icon width and border width to determine
+     * insets and position.
+     */
+    private static final float MULTIPLIER = 1.5f;
+    /**
+     * The shared borders, in least recently used order.
+     */
+    private static final Map<Key, ValidatorBorder> CACHE =
+        new LinkedHashMap<Key, ValidatorBorder>(
+            INITIAL_CAPACITY,
+            LOAD_FACTOR,
+            true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                final Map.Entry<Key, ValidatorBorder> eldest) {
+                return size() > MAX_CACHED;
+            }
+        };
+
+    static {
+        UIManager.addPropertyChangeListener(evt -> {
+            if ("lookAndFeel".equals(evt.getPropertyName())) {
+                clearCache();
+            }
+        });
+    }
+
     /**
      * The validation to use in the border. (f for "field" to avoid conflict
      * with parameter name)
      */
     private final transient Validation fValidation;
     /**
-     * The font used to draw the validation icons.
+     * The font used to draw the validation icons, derived when first needed.
      */
-    private Font font;
+    private Font font = null;
     /**
-     * Multiplier to apply to icon width and border width to determine
-     * insets and position.
+     * The laid out icon in the font.
+     */
+    private transient IconGlyph glyph = null;
+    /**
+     * The font size the icon is laid out in.
      */
-    private final float multiplier = 1.5f;
+    private int glyphSize = 0;
 
     /**
      * Create a ValidatorBorder.
@@ -67,7 +121,6 @@ public class ValidatorBorder extends CompoundBorder {
         final Validation validation,
         final Border originalBorder) {
         this.fValidation = validation;
-        this.font = this.fValidation.getFont().deriveFont(Font.BOLD, 0);
         this.outsideBorder = originalBorder;
         this.insideBorder = new AbstractBorder() {
             private static final long serialVersionUID = 1L;
@@ -84,31 +137,25 @@ public class ValidatorBorder extends CompoundBorder {
                 final int width,
                 final int height) {
                 Insets insets = outsideBorder.getBorderInsets(c);
-                FontMetrics metrics = getFontMetrics(c);
-                int by = (c.getHeight() / 2)
-                    + (metrics.getAscent() / 2)
-                    - insets.top;
-                // border width
-                int bw = Math.max(2, insets.right);
-                // icon width
-                int iw = metrics.stringWidth(validation.getIcon());
-                int bx = x
-                    + width
-                    - Math.round((iw * multiplier) + (bw * multiplier))
-                    + 2;
-                g.translate(bx, by);
-                g.setColor(validation.getColor());
-                g.setFont(font);
+                IconGlyph glyph = getGlyph(c, validation);
+                Point origin = getIconOrigin(c, insets, x, y, width, glyph);
                 if (g instanceof Graphics2D) {
-                    Graphics2D g2d = (Graphics2D) g;
-                    g2d.setRenderingHint(
-                            RenderingHints.KEY_TEXT_ANTIALIASING,
-                            RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-                    g2d.setRenderingHint(
-                            RenderingHints.KEY_FRACTIONALMETRICS,
-                            RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+                    Graphics2D g2d = (Graphics2D) g.create();
+                    try {
+                        g2d.translate(origin.x, origin.y);
+                        g2d.setColor(validation.getColor());
+                        g2d.setRenderingHint(
+                            RenderingHints.KEY_ANTIALIASING,
+                            RenderingHints.VALUE_ANTIALIAS_ON);
+                        g2d.fill(glyph.getOutline());
+                    } finally {
+                        g2d.dispose();
+                    }
+                } else {
+                    g.setColor(validation.getColor());
+                    g.setFont(getFont(c.getFont().getSize()));
+                    g.drawString(validation.getIcon(), origin.x, origin.y);
                 }
-                g.drawString(validation.getIcon(), x + (iw / 2), y);
             }
 
             /**
@@ -126,20 +173,206 @@ public class ValidatorBorder extends CompoundBorder {
             public Insets getBorderInsets(
                 final Component c,
                 final Insets insets) {
-                FontMetrics metrics = getFontMetrics(c);
                 // icon width
-                int iw = metrics.stringWidth(validation.getIcon());
-                insets.right = Math.round(iw * multiplier);
+                int iw = getGlyph(c, validation).getWidth();
+                insets.right = Math.round(iw * MULTIPLIER);
                 return insets;
             }
         };
     }
 
-    private FontMetrics getFontMetrics(final Component c) {
-        Font cFont = c.getFont();
-        if (font.getSize() != cFont.getSize()) {
-            font = fValidation.getFont().deriveFont(Font.BOLD, cFont.getSize());
+    /**
+     * Get a shared ValidatorBorder. Borders are shared by validations with the
+     * same icon, color, and font, for the same original border and component
+     * font size. Shared borders are discarded when the look and feel changes;
+     * since the icon, color, and font are part of what is shared, borders for
+     * changed preferences are never shared with borders for the previous
+     * preferences.
+     *
+     * @param validation     the validation to use in the border; must not be
+     *                       null
+     * @param originalBorder the original border of the component being
+     *                       validated
+     * @param fontSize       the font size of the component being validated
+     * @return a border for the validation
+     */
+    public static ValidatorBorder getBorder(
+        final Validation validation,
+        final Border originalBorder,
+        final int fontSize) {
+        Key key = new Key(validation, originalBorder, fontSize);
+        synchronized (CACHE) {
+            ValidatorBorder border = CACHE.get(key);
+            if (border == null) {
+                border = new ValidatorBorder(validation, originalBorder);
+                CACHE.put(key, border);
+            }
+            return border;
+        }
+    }
+
+    /**
+     * Discard all shared borders. Call this if the appearance of validation
+     * icons changes other than by changing the look and feel or preferences.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Get the number of shared borders.
+     *
+     * @return the number of shared borders
+     */
+    static int getCacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Get the laid out icon for a validation in the font size of a
+     * component. The icon is laid out from the outlines generated when
+     * building if available, so the font does not need to be loaded.
+     *
+     * @param c          the component
+     * @param validation the validation
+     * @return the laid out icon
+     */
+    private IconGlyph getGlyph(final Component c, final Validation validation) {
+        int size = c.getFont().getSize();
+        if (glyphSize != size || glyph == null) {
+            glyph = IconGlyph.get(validation, size);
+            glyphSize = size;
+        }
+        return glyph;
+    }
+
+    /**
+     * Get the origin of a validation icon drawn in the area of a component
+     * inside its original border.
+     *
+     * @param c      the component
+     * @param insets the insets of the original border
+     * @param x      the x coordinate of the area
+     * @param y      the y coordinate of the area
+     * @param width  the width of the area
+     * @param glyph  the laid out icon
+     * @return the origin of the icon on its baseline
+     */
+    static Point getIconOrigin(
+        final Component c,
+        final Insets insets,
+        final int x,
+        final int y,
+        final int width,
+        final IconGlyph glyph) {
+        int by = (c.getHeight() / 2)
+            + (glyph.getAscent() / 2)
+            - insets.top;
+        // border width
+        int bw = Math.max(2, insets.right);
+        // icon width
+        int iw = glyph.getWidth();
+        int bx = x
+            + width
+            - Math.round((iw * MULTIPLIER) + (bw * MULTIPLIER))
+            + 2;
+        return new Point(bx + x + (iw / 2), by + y);
+    }
+
+    /**
+     * Get the font used to draw the validation icons in a font size.
+     *
+     * @param size the font size
+     * @return the bold font in size
+     */
+    private Font getFont(final int size) {
+        if (font == null || font.getSize() != size) {
+            font = fValidation.getFont().deriveFont(Font.BOLD, size);
+        }
+        return font;
+    }
+
+    /**
+     * The key for a shared border.
+     */
+    private static final class Key {
+
+        /**
+         * A prime number used in hashCode calculations.
+         */
+        private static final int HASH_PRIME = 31;
+        /**
+         * The original border, compared by identity.
+         */
+        private final Border border;
+        /**
+         * The icon.
+         */
+        private final String icon;
+        /**
+         * The color of the icon.
+         */
+        private final Color color;
+        /**
+         * The path of the font of the icon.
+         */
+        private final String font;
+        /**
+         * The font size of the component.
+         */
+        private final int size;
+        /**
+         * The cached hash code.
+         */
+        private final int hash;
+
+        /**
+         * Create a Key.
+         *
+         * @param validation     the validation
+         * @param originalBorder the original border
+         * @param fontSize       the font size of the component
+         */
+        Key(
+            final Validation validation,
+            final Border originalBorder,
+            final int fontSize) {
+            this.border = originalBorder;
+            this.icon = validation.getIcon();
+            this.color = validation.getColor();
+            this.font = validation.getFontPath();
+            this.size = fontSize;
+            int h = System.identityHashCode(originalBorder);
+            h = HASH_PRIME * h + Objects.hashCode(icon);
+            h = HASH_PRIME * h + Objects.hashCode(color);
+            h = HASH_PRIME * h + Objects.hashCode(font);
+            this.hash = HASH_PRIME * h + fontSize;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return border == other.border
+                && size == other.size
+                && hash == other.hash
+                && Objects.equals(icon, other.icon)
+                && Objects.equals(color, other.color)
+                && Objects.equals(font, other.font);
         }
-        return c.getFontMetrics(font);
     }
 }
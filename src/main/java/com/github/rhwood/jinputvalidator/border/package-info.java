@@ -14,7 +14,8 @@
  * limitations under the License.
  */
 /**
- * A {@link javax.swing.border.Border} for Java Swing that complements
+ * A {@link javax.swing.border.Border} and a {@link javax.swing.JLayer}
+ * overlay for Java Swing that complement
  * {@link com.github.rhwood.jinputvalidator.JInputValidator}.
  */
 package com.github.rhwood.jinputvalidator.border;
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view of bytes in a {@link ByteBuffer} that does not
+ * copy the bytes. Each byte is viewed as one ISO-8859-1 character.
+ *
+ * @author Randall Wood
+ */
+final class ByteCharSequence implements CharSequence {
+
+    /**
+     * The viewed buffer.
+     */
+    private ByteBuffer buffer;
+    /**
+     * The index in buffer of the first viewed byte.
+     */
+    private int start;
+    /**
+     * The number of viewed bytes.
+     */
+    private int length;
+
+    /**
+     * Create an empty ByteCharSequence.
+     */
+    ByteCharSequence() {
+        this(null, 0, 0);
+    }
+
+    /**
+     * Create a ByteCharSequence.
+     *
+     * @param bytes  the buffer to view
+     * @param offset the index in bytes of the first viewed byte
+     * @param count  the number of viewed bytes
+     */
+    ByteCharSequence(
+        final ByteBuffer bytes,
+        final int offset,
+        final int count) {
+        set(bytes, offset, count);
+    }
+
+    /**
+     * Set the bytes viewed by this sequence.
+     *
+     * @param bytes  the buffer to view
+     * @param offset the index in bytes of the first viewed byte
+     * @param count  the number of viewed bytes
+     */
+    void set(final ByteBuffer bytes, final int offset, final int count) {
+        this.buffer = bytes;
+        this.start = offset;
+        this.length = count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "index " + index + ", length " + length);
+        }
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned sequence is a view of the same bytes.
+     */
+    @Override
+    public CharSequence subSequence(final int from, final int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(
+                "start " + from + ", end " + to + ", length " + length);
+        }
+        return new ByteCharSequence(buffer, start + from, to - from);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned String is a copy of the viewed bytes.
+     */
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
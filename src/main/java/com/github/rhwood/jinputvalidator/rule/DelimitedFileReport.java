@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating a file with a {@link DelimitedFileValidator}.
+ *
+ * @author Randall Wood
+ */
+public final class DelimitedFileReport {
+
+    /**
+     * The number of records validated.
+     */
+    private final long recordCount;
+    /**
+     * The number of failures.
+     */
+    private final long failureCount;
+    /**
+     * The reported failures.
+     */
+    private final List<Failure> failures;
+    /**
+     * The summary of each rule.
+     */
+    private final List<RuleSummary> summaries;
+
+    /**
+     * Create a DelimitedFileReport.
+     *
+     * @param records  the number of records validated
+     * @param failed   the number of failures
+     * @param reported the reported failures
+     * @param rules    the summary of each rule
+     */
+    DelimitedFileReport(
+        final long records,
+        final long failed,
+        final List<Failure> reported,
+        final List<RuleSummary> rules) {
+        this.recordCount = records;
+        this.failureCount = failed;
+        this.failures = Collections.unmodifiableList(reported);
+        this.summaries = Collections.unmodifiableList(rules);
+    }
+
+    /**
+     * Get the number of records validated, excluding any header and empty
+     * lines.
+     *
+     * @return the number of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Get the number of failures, including failures not in
+     * {@link #getFailures()}.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Get the first failures in record order, limited to
+     * {@link DelimitedFileValidator#getMaxFailures()} failures. The record
+     * index of a failure is the index of the record in the file, excluding
+     * any header and empty lines.
+     *
+     * @return the failures
+     */
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Get the summary of failures of each rule, in the order of the rules.
+     *
+     * @return the summaries
+     */
+    public List<RuleSummary> getSummaries() {
+        return summaries;
+    }
+
+    /**
+     * Check if all records are valid.
+     *
+     * @return {@code true} if there are no failures; {@code false} otherwise
+     */
+    public boolean isValid() {
+        return failureCount == 0;
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Validates the lines of a delimited file, such as a CSV file, by applying a
+ * set of {@link FieldRule}s to every line. The file is memory-mapped and
+ * split into parts on line boundaries that are validated in parallel, and
+ * fields are passed to rules as views of the mapped file (see
+ * {@link DelimitedRecord}), so the contents of the file are never copied.
+ * <p>
+ * Fields are separated by a single ASCII delimiter and lines by a line feed,
+ * optionally preceded by a carriage return. Quoted fields containing the
+ * delimiter or line breaks are not supported. Empty lines are ignored, but
+ * are counted in the {@linkplain Failure#getLineNumber() line numbers} of
+ * failures. If the file has a header, the header is the first line of the
+ * file, even if that line is empty.
+ * <p>
+ * The result is a {@link DelimitedFileReport} with the first
+ * {@link #getMaxFailures()} failures and a {@link RuleSummary} of the
+ * failures of each rule.
+ *
+ * @author Randall Wood
+ */
+public class DelimitedFileValidator {
+
+    /**
+     * The default maximum number of failures reported.
+     */
+    public static final int DEFAULT_MAX_FAILURES = 1000;
+    /**
+     * The minimum size in bytes of a part of a file validated in parallel.
+     */
+    static final long MIN_PART_SIZE = 1L << 20;
+    /**
+     * The maximum size in bytes of a part of a file, which is mapped as a
+     * single buffer.
+     */
+    private static final long MAX_PART_SIZE = 1L << 30;
+    /**
+     * The number of parts per thread in the pool, so threads that finish
+     * early can take on more parts.
+     */
+    private static final int PARTS_PER_THREAD = 4;
+    /**
+     * The size of the buffer used to find line boundaries.
+     */
+    private static final int SCAN_SIZE = 8192;
+    /**
+     * The highest ASCII character.
+     */
+    private static final char MAX_ASCII = 0x7F;
+    /**
+     * The types in order of increasing {@link Severity#getRank() rank}.
+     */
+    private static final Severity[] TYPES = Severity.values();
+    /**
+     * The rules. (f for "field" to avoid conflict with parameter name)
+     */
+    private final List<FieldRule<? super DelimitedRecord>> fRules;
+    /**
+     * The delimiter. (f for "field" to avoid conflict with parameter name)
+     */
+    private final byte fDelimiter;
+    /**
+     * Flag indicating the first line is a header. (f for "field" to avoid
+     * conflict with parameter name)
+     */
+    private final boolean fHeader;
+    /**
+     * The maximum number of failures reported. (f for "field" to avoid
+     * conflict with parameter name)
+     */
+    private final int fMaxFailures;
+    /**
+     * The pool to validate in. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final ForkJoinPool fPool;
+    /**
+     * The minimum size of a part. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final long fMinPartSize;
+
+    /**
+     * Create a DelimitedFileValidator that validates in the
+     * {@link ForkJoinPool#commonPool()} and reports up to
+     * {@link #DEFAULT_MAX_FAILURES} failures.
+     *
+     * @param rules     the rules to apply to every line; must not be null
+     * @param delimiter the field delimiter, such as {@code ','} or
+     *                  {@code '\t'}; must be an ASCII character
+     * @param header    {@code true} if the first line is a header that is
+     *                  not validated, even if empty; {@code false} otherwise
+     * @throws IllegalArgumentException if delimiter is not an ASCII character
+     */
+    public DelimitedFileValidator(
+        final List<FieldRule<? super DelimitedRecord>> rules,
+        final char delimiter,
+        final boolean header) {
+        this(
+            rules,
+            delimiter,
+            header,
+            DEFAULT_MAX_FAILURES,
+            ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a DelimitedFileValidator.
+     *
+     * @param rules       the rules to apply to every line; must not be null
+     * @param delimiter   the field delimiter, such as {@code ','} or
+     *                    {@code '\t'}; must be an ASCII character
+     * @param header      {@code true} if the first line is a header that is
+     *                    not validated, even if empty; {@code false}
+     *                    otherwise
+     * @param maxFailures the maximum number of failures to report; all
+     *                    failures are counted in the summaries
+     * @param pool        the pool to validate in; must not be null
+     * @throws IllegalArgumentException if delimiter is not an ASCII character
+     */
+    public DelimitedFileValidator(
+        final List<FieldRule<? super DelimitedRecord>> rules,
+        final char delimiter,
+        final boolean header,
+        final int maxFailures,
+        final ForkJoinPool pool) {
+        this(rules, delimiter, header, maxFailures, pool, MIN_PART_SIZE);
+    }
+
+    /**
+     * Create a DelimitedFileValidator.
+     *
+     * @param rules       the rules to apply to every line; must not be null
+     * @param delimiter   the field delimiter; must be an ASCII character
+     * @param header      {@code true} if the first line is a header
+     * @param maxFailures the maximum number of failures to report
+     * @param pool        the pool to validate in; must not be null
+     * @param minPartSize the minimum size of a part validated in parallel
+     * @throws IllegalArgumentException if delimiter is not an ASCII character
+     */
+    DelimitedFileValidator(
+        final List<FieldRule<? super DelimitedRecord>> rules,
+        final char delimiter,
+        final boolean header,
+        final int maxFailures,
+        final ForkJoinPool pool,
+        final long minPartSize) {
+        if (delimiter > MAX_ASCII || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException(
+                "delimiter must be an ASCII character other than a line break");
+        }
+        this.fRules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.fDelimiter = (byte) delimiter;
+        this.fHeader = header;
+        this.fMaxFailures = maxFailures;
+        this.fPool = pool;
+        this.fMinPartSize = minPartSize;
+    }
+
+    /**
+     * Get the rules applied to every line.
+     *
+     * @return the rules
+     */
+    public List<FieldRule<? super DelimitedRecord>> getRules() {
+        return fRules;
+    }
+
+    /**
+     * Get the maximum number of failures reported.
+     *
+     * @return the maximum number of failures
+     */
+    public int getMaxFailures() {
+        return fMaxFailures;
+    }
+
+    /**
+     * Validate a file.
+     *
+     * @param file the file to validate
+     * @return the report of failures
+     * @throws IOException if the file cannot be read
+     */
+    public DelimitedFileReport validate(final Path file) throws IOException {
+        try (FileChannel channel =
+            FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            List<CompletableFuture<Part>> parts = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                boolean skipHeader = fHeader && i == 0;
+                parts.add(CompletableFuture.supplyAsync(
+                    () -> validate(channel, start, end, skipHeader),
+                    fPool));
+            }
+            return report(join(parts));
+        }
+    }
+
+    /**
+     * Split a file into parts on line boundaries.
+     *
+     * @param channel the file
+     * @return the offset of the start of each part, followed by the size of
+     *         the file
+     * @throws IOException if the file cannot be read
+     */
+    private long[] split(final FileChannel channel) throws IOException {
+        long size = channel.size();
+        long count = Math.max(
+            (size + MAX_PART_SIZE - 1) / MAX_PART_SIZE,
+            Math.min(
+                (long) fPool.getParallelism() * PARTS_PER_THREAD,
+                size / fMinPartSize));
+        count = Math.max(count, 1);
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        long previous = 0;
+        for (long i = 1; i < count; i++) {
+            long position = Math.max(size / count * i, previous);
+            long bound = nextLine(channel, position, scan);
+            if (bound > previous && bound < size) {
+                if (bound - previous > Integer.MAX_VALUE) {
+                    throw new IOException("Line too long at " + previous);
+                }
+                bounds.add(bound);
+                previous = bound;
+            }
+        }
+        if (size - previous > Integer.MAX_VALUE) {
+            throw new IOException("Line too long at " + previous);
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Find the start of the first line starting at or after a position.
+     *
+     * @param channel  the file
+     * @param position the position to start looking at
+     * @param scan     the buffer to read into
+     * @return the offset of the start of the line or the size of the file if
+     *         there are no more lines
+     * @throws IOException if the file cannot be read
+     */
+    private static long nextLine(
+        final FileChannel channel,
+        final long position,
+        final ByteBuffer scan) throws IOException {
+        // the line starts after the line feed preceding or after position
+        long offset = Math.max(position - 1, 0);
+        while (true) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+    }
+
+    /**
+     * Validate a part of a file.
+     *
+     * @param channel    the file
+     * @param start      the offset of the part
+     * @param end        the offset after the part
+     * @param skipHeader {@code true} if the first line of the part is a
+     *                   header
+     * @return the result of validating the part
+     */
+    private Part validate(
+        final FileChannel channel,
+        final long start,
+        final long end,
+        final boolean skipHeader) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                start,
+                end - start);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Part part = new Part(fRules.size());
+        DelimitedRecord record = new DelimitedRecord(fDelimiter);
+        boolean skip = skipHeader;
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            if (skip) {
+                skip = false;
+            } else if (lineEnd > lineStart) {
+                record.set(buffer, lineStart, lineEnd);
+                validate(record, part);
+            }
+            part.lineCount++;
+            lineStart = next;
+        }
+        return part;
+    }
+
+    /**
+     * Validate a line.
+     *
+     * @param record the line
+     * @param part   the result of the part containing the line
+     */
+    private void validate(final DelimitedRecord record, final Part part) {
+        for (int i = 0; i < fRules.size(); i++) {
+            FieldRule<? super DelimitedRecord> rule = fRules.get(i);
+            RuleResult result = rule.apply(record);
+            if (!result.isValid()) {
+                part.counts[i][result.getType().ordinal()]++;
+                part.failureCount++;
+                if (part.failures.size() < fMaxFailures) {
+                    part.failures.add(new Failure(
+                        part.recordCount,
+                        part.lineCount + 1,
+                        rule.getField(),
+                        result));
+                }
+            }
+        }
+        part.recordCount++;
+    }
+
+    /**
+     * Wait for the results of all parts.
+     *
+     * @param parts the parts
+     * @return the results
+     * @throws IOException if a part could not be read
+     */
+    private static List<Part> join(final List<CompletableFuture<Part>> parts)
+        throws IOException {
+        List<Part> results = new ArrayList<>(parts.size());
+        try {
+            for (CompletableFuture<Part> part : parts) {
+                results.add(part.join());
+            }
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    /**
+     * Combine the results of all parts.
+     *
+     * @param parts the results of the parts in file order
+     * @return the report
+     */
+    private DelimitedFileReport report(final List<Part> parts) {
+        long records = 0;
+        long lines = 0;
+        long failed = 0;
+        List<Failure> failures = new ArrayList<>();
+        long[][] counts = new long[fRules.size()][TYPES.length];
+        for (Part part : parts) {
+            for (Failure failure : part.failures) {
+                if (failures.size() < fMaxFailures) {
+                    failures.add(new Failure(
+                        records + failure.getRecordIndex(),
+                        lines + failure.getLineNumber(),
+                        failure.getField(),
+                        failure.getResult()));
+                }
+            }
+            for (int i = 0; i < counts.length; i++) {
+                for (int j = 0; j < TYPES.length; j++) {
+                    counts[i][j] += part.counts[i][j];
+                }
+            }
+            records += part.recordCount;
+            lines += part.lineCount;
+            failed += part.failureCount;
+        }
+        List<RuleSummary> summaries = new ArrayList<>(fRules.size());
+        for (int i = 0; i < counts.length; i++) {
+            summaries.add(new RuleSummary(fRules.get(i).getField(), counts[i]));
+        }
+        return new DelimitedFileReport(records, failed, failures, summaries);
+    }
+
+    /**
+     * The result of validating a part of a file.
+     */
+    private static final class Part {
+
+        /**
+         * The number of records in the part.
+         */
+        private long recordCount = 0;
+        /**
+         * The number of lines in the part, including any header and empty
+         * lines.
+         */
+        private long lineCount = 0;
+        /**
+         * The number of failures in the part.
+         */
+        private long failureCount = 0;
+        /**
+         * The first failures in the part, indexed and numbered from the start
+         * of the part.
+         */
+        private final List<Failure> failures = new ArrayList<>();
+        /**
+         * The number of failures of each rule by type ordinal.
+         */
+        private final long[][] counts;
+
+        /**
+         * Create a Part.
+         *
+         * @param rules the number of rules
+         */
+        Part(final int rules) {
+            this.counts = new long[rules][TYPES.length];
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A line of a delimited file as validated by a {@link DelimitedFileValidator}.
+ * The fields are views of the file contents that are only valid for the
+ * duration of a call to {@link FieldRule#apply(java.lang.Object)}, and must
+ * not be retained by rules; use {@link CharSequence#toString()} to copy a
+ * field. Each byte of the file is viewed as one ISO-8859-1 character, so
+ * multi-byte UTF-8 characters are viewed as multiple characters.
+ *
+ * @author Randall Wood
+ */
+public final class DelimitedRecord {
+
+    /**
+     * The empty field returned for fields not in the line.
+     */
+    private static final CharSequence MISSING = "";
+    /**
+     * The delimiter.
+     */
+    private final byte delimiter;
+    /**
+     * The views of each field, reused for each line.
+     */
+    private ByteCharSequence[] fields = new ByteCharSequence[0];
+    /**
+     * The number of fields in the current line.
+     */
+    private int size = 0;
+
+    /**
+     * Create a DelimitedRecord.
+     *
+     * @param separator the delimiter
+     */
+    DelimitedRecord(final byte separator) {
+        this.delimiter = separator;
+    }
+
+    /**
+     * Set the line viewed by this record.
+     *
+     * @param buffer the buffer containing the line
+     * @param start  the index in buffer of the first byte of the line
+     * @param end    the index in buffer after the last byte of the line,
+     *               excluding line terminators
+     */
+    void set(final ByteBuffer buffer, final int start, final int end) {
+        size = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || buffer.get(i) == delimiter) {
+                if (size == fields.length) {
+                    fields = Arrays.copyOf(fields, size + 1);
+                    fields[size] = new ByteCharSequence();
+                }
+                fields[size++].set(buffer, fieldStart, i - fieldStart);
+                fieldStart = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Get the number of fields in this record.
+     *
+     * @return the number of fields
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get a field.
+     *
+     * @param column the index of the field, starting at 0
+     * @return the field or an empty sequence if this record does not have
+     *         the field
+     */
+    public CharSequence get(final int column) {
+        if (column < 0 || column >= size) {
+            return MISSING;
+        }
+        return fields[column];
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.function.Supplier;
+
+/**
+ * A supplier of a message that can change after it is first supplied, such
+ * as a {@link LocalizedMessage} that is formatted again when the locale
+ * changes. A {@link RuleResult} with a deferred DynamicMessage calls
+ * {@link #get()} every time its message is requested instead of keeping the
+ * first message, so a DynamicMessage should keep the message it last
+ * supplied until that message is no longer current.
+ *
+ * @author Randall Wood
+ */
+public interface DynamicMessage extends Supplier<String> {
+
+    /**
+     * Check if the message last supplied is current.
+     *
+     * @return {@code true} if {@link #get()} will return the message last
+     *         supplied without creating it again; {@code false} otherwise
+     */
+    boolean isCurrent();
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+/**
+ * A failed validation of one field of one record, as reported by a
+ * {@link RecordValidator}. A result is considered failed if it is not
+ * {@link RuleResult#isValid() valid}.
+ *
+ * @author Randall Wood
+ */
+public final class Failure {
+
+    /**
+     * The index of the record. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final long fRecordIndex;
+    /**
+     * The line number of the record. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final long fLineNumber;
+    /**
+     * The name of the field. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private final String fField;
+    /**
+     * The result of the rule. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private final RuleResult fResult;
+
+    /**
+     * Create a Failure for a record that is not read from a line of a file,
+     * with a line number one greater than the record index.
+     *
+     * @param recordIndex the index of the record
+     * @param field       the name of the field
+     * @param result      the result of the rule
+     */
+    public Failure(
+        final long recordIndex,
+        final String field,
+        final RuleResult result) {
+        this(recordIndex, recordIndex + 1, field, result);
+    }
+
+    /**
+     * Create a Failure.
+     *
+     * @param recordIndex the index of the record
+     * @param lineNumber  the line number of the record, starting at 1
+     * @param field       the name of the field
+     * @param result      the result of the rule
+     */
+    public Failure(
+        final long recordIndex,
+        final long lineNumber,
+        final String field,
+        final RuleResult result) {
+        this.fRecordIndex = recordIndex;
+        this.fLineNumber = lineNumber;
+        this.fField = field;
+        this.fResult = result;
+    }
+
+    /**
+     * Get the index of the failed record, starting at 0. Records are counted
+     * without any header or empty lines.
+     *
+     * @return the record index
+     * @see #getLineNumber()
+     */
+    public long getRecordIndex() {
+        return fRecordIndex;
+    }
+
+    /**
+     * Get the line number of the failed record, starting at 1. For a record
+     * read from a file, this is the physical line in the file, counting any
+     * header and empty lines.
+     *
+     * @return the line number
+     */
+    public long getLineNumber() {
+        return fLineNumber;
+    }
+
+    /**
+     * Get the name of the failed field.
+     *
+     * @return the field name
+     */
+    public String getField() {
+        return fField;
+    }
+
+    /**
+     * Get the result of the failed rule.
+     *
+     * @return the result
+     */
+    public RuleResult getResult() {
+        return fResult;
+    }
+
+    /**
+     * Get the type of the failure.
+     *
+     * @return the type
+     */
+    public Severity getType() {
+        return fResult.getType();
+    }
+
+    /**
+     * Get the message of the failure.
+     *
+     * @return the message; may be null
+     */
+    public String getMessage() {
+        return fResult.getMessage();
+    }
+
+    @Override
+    public String toString() {
+        return fRecordIndex + " " + fField + " " + fResult;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.function.Function;
+
+/**
+ * A {@link Rule} for one field of a record, used to validate records in bulk
+ * with a {@link RecordValidator}.
+ *
+ * @param <R> the type of record validated
+ * @author Randall Wood
+ */
+public final class FieldRule<R> {
+
+    /**
+     * The name of the field. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private final String fField;
+    /**
+     * The rule applied to the record. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final Rule<? super R> fRule;
+
+    /**
+     * Create a FieldRule.
+     *
+     * @param field the name of the field; must not be null
+     * @param rule  the rule to apply to records; must not be null
+     */
+    public FieldRule(final String field, final Rule<? super R> rule) {
+        this.fField = field;
+        this.fRule = rule;
+    }
+
+    /**
+     * Create a FieldRule that applies a rule to the value of a field.
+     *
+     * @param <R>      the type of record validated
+     * @param <T>      the type of the field
+     * @param field    the name of the field; must not be null
+     * @param accessor the function getting the field value from a record;
+     *                 must not be null
+     * @param rule     the rule to apply to the field value; must not be null
+     * @return a new FieldRule
+     */
+    public static <R, T> FieldRule<R> of(
+        final String field,
+        final Function<? super R, ? extends T> accessor,
+        final Rule<? super T> rule) {
+        return new FieldRule<>(
+            field,
+            (R record) -> rule.apply(accessor.apply(record)));
+    }
+
+    /**
+     * Get the name of the field.
+     *
+     * @return the field name
+     */
+    public String getField() {
+        return fField;
+    }
+
+    /**
+     * Validate a record.
+     *
+     * @param record the record to validate
+     * @return the result of the rule
+     */
+    public RuleResult apply(final R record) {
+        return fRule.apply(record);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A message identified by a key and arguments in a
+ * {@link ValidationMessages} catalog. The message is formatted when first
+ * requested, and formatted again only when the locale of the catalog
+ * changes.
+ * <p>
+ * Two LocalizedMessages are equal if they are from the same catalog and have
+ * equal keys and arguments, so validations and results with equal
+ * LocalizedMessages are equal without formatting either message.
+ *
+ * @author Randall Wood
+ */
+public final class LocalizedMessage implements DynamicMessage {
+
+    /**
+     * A prime number used in hashCode calculations.
+     */
+    private static final int HASH_PRIME = 79;
+    /**
+     * The catalog. (f for "field" to avoid conflict with parameter name)
+     */
+    private final ValidationMessages fMessages;
+    /**
+     * The key. (f for "field" to avoid conflict with parameter name)
+     */
+    private final String fKey;
+    /**
+     * The arguments. (f for "field" to avoid conflict with parameter name)
+     */
+    private final Object[] fArguments;
+    /**
+     * The cached hash code.
+     */
+    private final int hash;
+    /**
+     * The message as last formatted; null until formatted.
+     */
+    private volatile Formatted formatted = null;
+
+    /**
+     * Create a LocalizedMessage.
+     *
+     * @param messages  the catalog; must not be null
+     * @param key       the key of the pattern in the catalog; must not be
+     *                  null
+     * @param arguments the arguments of the pattern
+     */
+    LocalizedMessage(
+        final ValidationMessages messages,
+        final String key,
+        final Object[] arguments) {
+        this.fMessages = messages;
+        this.fKey = Objects.requireNonNull(key);
+        if (arguments == null) {
+            this.fArguments = new Object[0];
+        } else {
+            this.fArguments = arguments.clone();
+        }
+        int h = HASH_PRIME + System.identityHashCode(messages);
+        h = HASH_PRIME * h + fKey.hashCode();
+        this.hash = HASH_PRIME * h + Arrays.hashCode(fArguments);
+    }
+
+    /**
+     * Get the key of the pattern in the catalog.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return fKey;
+    }
+
+    /**
+     * Get the message formatted in the current locale of the catalog.
+     *
+     * @return the formatted message
+     */
+    @Override
+    public String get() {
+        Formatted last = formatted;
+        if (last == null || !fMessages.isCurrent(last.formats)) {
+            ValidationMessages.Formats formats = fMessages.getFormats();
+            last = new Formatted(formats, formats.format(fKey, fArguments));
+            formatted = last;
+        }
+        return last.text;
+    }
+
+    /**
+     * Check if the message is formatted in the current locale of the catalog.
+     *
+     * @return {@code true} if {@link #get()} will not format the message;
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean isCurrent() {
+        Formatted last = formatted;
+        return last != null && fMessages.isCurrent(last.formats);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LocalizedMessage)) {
+            return false;
+        }
+        LocalizedMessage other = (LocalizedMessage) obj;
+        return hash == other.hash
+            && fMessages == other.fMessages
+            && fKey.equals(other.fKey)
+            && Arrays.equals(fArguments, other.fArguments);
+    }
+
+    @Override
+    public String toString() {
+        return fKey + Arrays.toString(fArguments);
+    }
+
+    /**
+     * A message formatted in a locale.
+     */
+    private static final class Formatted {
+
+        /**
+         * The formats used.
+         */
+        private final ValidationMessages.Formats formats;
+        /**
+         * The formatted message.
+         */
+        private final String text;
+
+        /**
+         * Create a Formatted.
+         *
+         * @param used    the formats used
+         * @param message the formatted message
+         */
+        Formatted(final ValidationMessages.Formats used, final String message) {
+            this.formats = used;
+            this.text = message;
+        }
+    }
+}
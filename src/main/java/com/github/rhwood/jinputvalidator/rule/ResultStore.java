@@ -0,0 +1,373 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compact store of the results of applying a set of {@link FieldRule}s to
+ * many records, such as when validating a large data set. Instead of a result
+ * per record and rule, the store keeps, for each rule, a {@link BitSet} of
+ * the rows with each {@link Severity} other than {@link Severity#NONE}, so a
+ * data set that is mostly valid uses very little memory.
+ * <p>
+ * Messages are not stored per row. {@link #getResult(int, int)} returns the
+ * first result stored for the rule with the type of the row, which is exact
+ * for rules that return one result per type, such as rules created with
+ * {@link Rule#of(java.util.function.Predicate, RuleResult, RuleResult)}.
+ * {@link #getResult(int, int, java.lang.Object)} resolves the exact result by
+ * applying the rule again to an inspected record.
+ * <p>
+ * A ResultStore is not thread-safe. To validate in parallel, each worker
+ * fills its own store and the stores are combined with
+ * {@link #merge(ResultStore)} or {@link #merge(ResultStore, int)}.
+ *
+ * @param <R> the type of record validated
+ * @author Randall Wood
+ */
+public class ResultStore<R> {
+
+    /**
+     * The types in order of increasing {@link Severity#getRank() rank}.
+     */
+    private static final Severity[] TYPES = Severity.values();
+    /**
+     * The rules. (f for "field" to avoid conflict with parameter name)
+     */
+    private final List<FieldRule<? super R>> fRules;
+    /**
+     * The rows with each type for each rule, indexed by rule and type
+     * ordinal; null until a row has the type.
+     */
+    private final BitSet[][] rows;
+    /**
+     * The first result with each type for each rule, indexed by rule and
+     * type ordinal.
+     */
+    private final RuleResult[][] results;
+    /**
+     * The number of rows.
+     */
+    private int size = 0;
+
+    /**
+     * Create an empty ResultStore.
+     *
+     * @param rules the rules the results are for; must not be null
+     */
+    public ResultStore(final List<FieldRule<? super R>> rules) {
+        this.fRules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.rows = new BitSet[fRules.size()][TYPES.length];
+        this.results = new RuleResult[fRules.size()][TYPES.length];
+    }
+
+    /**
+     * Get the rules the results are for.
+     *
+     * @return the rules
+     */
+    public List<FieldRule<? super R>> getRules() {
+        return fRules;
+    }
+
+    /**
+     * Apply every rule to a record and store the results.
+     *
+     * @param row    the row of the record
+     * @param record the record
+     * @return {@code true} if every result is valid; {@code false} otherwise
+     */
+    public boolean validate(final int row, final R record) {
+        boolean valid = true;
+        for (int i = 0; i < rows.length; i++) {
+            RuleResult result = fRules.get(i).apply(record);
+            set(i, row, result);
+            valid &= result.isValid();
+        }
+        return valid;
+    }
+
+    /**
+     * Store the result of a rule for a row. A row should only be stored once
+     * for each rule.
+     *
+     * @param rule   the index of the rule
+     * @param row    the row
+     * @param result the result
+     */
+    public void set(final int rule, final int row, final RuleResult result) {
+        int type = result.getType().ordinal();
+        if (type != Severity.NONE.ordinal()) {
+            rowsOf(rule, type).set(row);
+            if (results[rule][type] == null) {
+                results[rule][type] = result;
+            }
+        }
+        size = Math.max(size, row + 1);
+    }
+
+    /**
+     * Get the number of rows, which is one more than the highest row stored.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the type of the result of a rule for a row. If more than one type
+     * is stored for the row, the most severe type is returned.
+     *
+     * @param rule the index of the rule
+     * @param row  the row
+     * @return the type
+     */
+    public Severity getType(final int rule, final int row) {
+        for (int type = TYPES.length - 1; type > 0; type--) {
+            BitSet bits = rows[rule][type];
+            if (bits != null && bits.get(row)) {
+                return TYPES[type];
+            }
+        }
+        return Severity.NONE;
+    }
+
+    /**
+     * Get the result of a rule for a row. This is the first result stored for
+     * the rule with the type of the row.
+     *
+     * @param rule the index of the rule
+     * @param row  the row
+     * @return the result
+     */
+    public RuleResult getResult(final int rule, final int row) {
+        Severity type = getType(rule, row);
+        if (type == Severity.NONE) {
+            return RuleResult.NONE;
+        }
+        return results[rule][type.ordinal()];
+    }
+
+    /**
+     * Get the exact result of a rule for a row by applying the rule to the
+     * record of the row. The rule is only applied if the row does not have
+     * the type {@link Severity#NONE}.
+     *
+     * @param rule   the index of the rule
+     * @param row    the row
+     * @param record the record of the row
+     * @return the result
+     */
+    public RuleResult getResult(final int rule, final int row, final R record) {
+        if (getType(rule, row) == Severity.NONE) {
+            return RuleResult.NONE;
+        }
+        return fRules.get(rule).apply(record);
+    }
+
+    /**
+     * Get the rows with a type for a rule.
+     *
+     * @param rule the index of the rule
+     * @param type the type; must not be {@link Severity#NONE}
+     * @return a copy of the rows with type
+     * @throws IllegalArgumentException if type is {@link Severity#NONE}
+     */
+    public BitSet getRows(final int rule, final Severity type) {
+        if (type == Severity.NONE) {
+            throw new IllegalArgumentException("Rows with NONE are not stored");
+        }
+        BitSet bits = rows[rule][type.ordinal()];
+        if (bits == null) {
+            return new BitSet();
+        }
+        return (BitSet) bits.clone();
+    }
+
+    /**
+     * Get the rows that failed a rule, that is rows with the type
+     * {@link Severity#WARNING} or {@link Severity#DANGER}.
+     *
+     * @param rule the index of the rule
+     * @return the failed rows
+     */
+    public BitSet getFailures(final int rule) {
+        BitSet failures = getRows(rule, Severity.WARNING);
+        BitSet danger = rows[rule][Severity.DANGER.ordinal()];
+        if (danger != null) {
+            failures.or(danger);
+        }
+        return failures;
+    }
+
+    /**
+     * Get the rows that failed any rule.
+     *
+     * @return the failed rows
+     */
+    public BitSet getFailures() {
+        BitSet failures = new BitSet();
+        for (int rule = 0; rule < rows.length; rule++) {
+            failures.or(getFailures(rule));
+        }
+        return failures;
+    }
+
+    /**
+     * Get the number of rows with a type for a rule.
+     *
+     * @param rule the index of the rule
+     * @param type the type
+     * @return the number of rows with type
+     */
+    public int getCount(final int rule, final Severity type) {
+        if (type == Severity.NONE) {
+            int count = size;
+            for (int i = 1; i < TYPES.length; i++) {
+                count -= getCount(rule, TYPES[i]);
+            }
+            return count;
+        }
+        BitSet bits = rows[rule][type.ordinal()];
+        if (bits == null) {
+            return 0;
+        }
+        return bits.cardinality();
+    }
+
+    /**
+     * Add the results of another store over the same rules. Rows in other
+     * are stored as the same rows in this store.
+     *
+     * @param other the store to add
+     * @throws IllegalArgumentException if other has a different number of
+     *                                  rules
+     */
+    public void merge(final ResultStore<? extends R> other) {
+        checkRules(other);
+        for (int rule = 0; rule < rows.length; rule++) {
+            for (int type = 1; type < TYPES.length; type++) {
+                BitSet bits = other.rows[rule][type];
+                if (bits != null) {
+                    rowsOf(rule, type).or(bits);
+                    mergeResult(other, rule, type);
+                }
+            }
+        }
+        size = Math.max(size, other.size);
+    }
+
+    /**
+     * Add the results of another store over the same rules, offsetting the
+     * rows. Row {@code n} in other is stored as row {@code n + offset} in this
+     * store; this allows workers to number rows from zero.
+     *
+     * @param other  the store to add
+     * @param offset the row in this store of the first row in other
+     * @throws IllegalArgumentException if other has a different number of
+     *                                  rules
+     */
+    public void merge(final ResultStore<? extends R> other, final int offset) {
+        if (offset == 0) {
+            merge(other);
+            return;
+        }
+        checkRules(other);
+        for (int rule = 0; rule < rows.length; rule++) {
+            for (int type = 1; type < TYPES.length; type++) {
+                BitSet bits = other.rows[rule][type];
+                if (bits != null) {
+                    BitSet target = rowsOf(rule, type);
+                    for (int row = bits.nextSetBit(0); row >= 0;
+                        row = bits.nextSetBit(row + 1)) {
+                        target.set(row + offset);
+                    }
+                    mergeResult(other, rule, type);
+                }
+            }
+        }
+        if (other.size > 0) {
+            size = Math.max(size, other.size + offset);
+        }
+    }
+
+    /**
+     * Get the estimated memory used by the results in bytes.
+     *
+     * @return the estimated number of bytes
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (BitSet[] ruleRows : rows) {
+            for (BitSet bits : ruleRows) {
+                if (bits != null) {
+                    bytes += bits.size() / Byte.SIZE;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the rows with a type for a rule, creating the rows if needed.
+     *
+     * @param rule the index of the rule
+     * @param type the type ordinal
+     * @return the rows
+     */
+    private BitSet rowsOf(final int rule, final int type) {
+        BitSet bits = rows[rule][type];
+        if (bits == null) {
+            bits = new BitSet();
+            rows[rule][type] = bits;
+        }
+        return bits;
+    }
+
+    /**
+     * Keep the first result of another store if this store has no result.
+     *
+     * @param other the other store
+     * @param rule  the index of the rule
+     * @param type  the type ordinal
+     */
+    private void mergeResult(
+        final ResultStore<? extends R> other,
+        final int rule,
+        final int type) {
+        if (results[rule][type] == null) {
+            results[rule][type] = other.results[rule][type];
+        }
+    }
+
+    /**
+     * Check that another store has the same number of rules.
+     *
+     * @param other the other store
+     * @throws IllegalArgumentException if other has a different number of
+     *                                  rules
+     */
+    private void checkRules(final ResultStore<? extends R> other) {
+        if (other.rows.length != rows.length) {
+            throw new IllegalArgumentException(
+                "Stores must have the same rules");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.function.Predicate;
+
+/**
+ * A validation rule for a plain value. Rules do not depend on Swing, AWT, or
+ * {@link java.util.prefs.Preferences}, so a rule can validate input in a
+ * {@link com.github.rhwood.jinputvalidator.RuleValidator} and the same values
+ * anywhere else, such as on a server.
+ * <p>
+ * Rules should be safe to apply from any thread.
+ *
+ * @param <T> the type of value validated
+ * @author Randall Wood
+ */
+@FunctionalInterface
+public interface Rule<T> {
+
+    /**
+     * Validate a value.
+     *
+     * @param value the value to validate
+     * @return the result; must never be null
+     */
+    RuleResult apply(T value);
+
+    /**
+     * Create a rule that returns one of two results based on a predicate.
+     * The returned rule does not allocate memory when applied.
+     *
+     * @param <T>       the type of value validated
+     * @param predicate the predicate to test values with; must not be null
+     * @param valid     the result when the predicate returns true; must not
+     *                  be null
+     * @param invalid   the result when the predicate returns false; must not
+     *                  be null
+     * @return a new rule
+     */
+    static <T> Rule<T> of(
+        final Predicate<? super T> predicate,
+        final RuleResult valid,
+        final RuleResult invalid) {
+        return value -> {
+            if (predicate.test(value)) {
+                return valid;
+            }
+            return invalid;
+        };
+    }
+
+    /**
+     * Create a rule that returns {@link RuleResult#NONE} when a predicate
+     * returns true and the invalid result otherwise.
+     *
+     * @param <T>       the type of value validated
+     * @param predicate the predicate to test values with; must not be null
+     * @param invalid   the result when the predicate returns false; must not
+     *                  be null
+     * @return a new rule
+     */
+    static <T> Rule<T> of(
+        final Predicate<? super T> predicate,
+        final RuleResult invalid) {
+        return of(predicate, RuleResult.NONE, invalid);
+    }
+}
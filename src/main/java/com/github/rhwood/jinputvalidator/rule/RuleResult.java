@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The result of applying a {@link Rule}: a validation type and a message.
+ * Unlike {@link com.github.rhwood.jinputvalidator.Validation}, a RuleResult
+ * has no display properties, so it can be used without AWT.
+ *
+ * @author Randall Wood
+ */
+public final class RuleResult {
+
+    /**
+     * A result with type {@link Severity#NONE} and no message.
+     */
+    public static final RuleResult NONE = new RuleResult(Severity.NONE, null);
+    /**
+     * A prime number used in hashCode calculations.
+     */
+    private static final int HASH_PRIME = 79;
+    /**
+     * The type of the result. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private final Severity fType;
+    /**
+     * The message of the result. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final String fMessage;
+    /**
+     * The supplier of the message if the message is deferred. (f for "field"
+     * to avoid conflict with parameter name)
+     */
+    private final Supplier<String> fMessageSupplier;
+    /**
+     * The key identifying a deferred message for equality; null if the
+     * message is not deferred. (f for "field" to avoid conflict with
+     * parameter name)
+     */
+    private final Object fKey;
+    /**
+     * The cached hash code.
+     */
+    private final int hash;
+    /**
+     * The message created by the supplier.
+     */
+    private volatile String suppliedMessage = null;
+    /**
+     * Flag indicating the message has been created.
+     */
+    private volatile boolean resolved;
+
+    /**
+     * Create a RuleResult.
+     *
+     * @param type    the type of the result; must not be null
+     * @param message the message; may be null
+     */
+    public RuleResult(final Severity type, final String message) {
+        this(type, message, null, null);
+    }
+
+    /**
+     * Create a RuleResult.
+     *
+     * @param type     the type of the result; must not be null
+     * @param message  the message; ignored if supplier is not null
+     * @param key      the key identifying the deferred message; ignored if
+     *                 supplier is null
+     * @param supplier the supplier of the message or null
+     */
+    private RuleResult(
+        final Severity type,
+        final String message,
+        final Object key,
+        final Supplier<String> supplier) {
+        this.fType = type;
+        this.fMessageSupplier = supplier;
+        int h = HASH_PRIME;
+        h = HASH_PRIME * h + Objects.hashCode(type);
+        if (supplier == null) {
+            this.fMessage = message;
+            this.fKey = null;
+            this.resolved = true;
+            h = HASH_PRIME * h + Objects.hashCode(message);
+        } else {
+            this.fMessage = null;
+            this.fKey = Objects.requireNonNull(key);
+            this.resolved = false;
+            h = HASH_PRIME * h + key.hashCode() + 1;
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Create a RuleResult with a message that is not created until
+     * {@link #getMessage()} is called. Use this for messages that are costly
+     * to create, such as formatted or localized messages, since the message
+     * of a result that is never displayed is then never created. A
+     * {@link DynamicMessage}, such as a {@link LocalizedMessage}, is created
+     * again when it is no longer current.
+     * <p>
+     * Results created with this method are equal only if they have the same
+     * type and equal suppliers, so comparing them does not create the
+     * message. Since most suppliers, including lambdas, are equal only to
+     * themselves, the supplier must be created once and reused, such as by
+     * keeping it in a field, or results from repeated validations of the same
+     * state are never equal. Use
+     * {@link #deferred(Severity, Object, Supplier)} to create the supplier
+     * each time, or use a {@link LocalizedMessage}, which is equal to other
+     * messages with the same key and arguments.
+     *
+     * @param type    the type of the result; must not be null
+     * @param message the supplier of the message, called at most once unless
+     *                a {@link DynamicMessage}; must not be null
+     * @return a new result
+     */
+    public static RuleResult deferred(
+        final Severity type,
+        final Supplier<String> message) {
+        return deferred(type, message, message);
+    }
+
+    /**
+     * Create a RuleResult with a message that is not created until
+     * {@link #getMessage()} is called, identified by a key. Results created
+     * with this method are equal if they have the same type and equal keys,
+     * regardless of the supplier, so the supplier can capture the value
+     * being validated without preventing validations of the same state from
+     * being equal.
+     *
+     * @param type    the type of the result; must not be null
+     * @param key     the key identifying the message, such as a message key
+     *                or rule name; must not be null and must implement
+     *                {@link Object#equals(Object)} and
+     *                {@link Object#hashCode()}
+     * @param message the supplier of the message, called at most once unless
+     *                a {@link DynamicMessage}; must not be null
+     * @return a new result
+     */
+    public static RuleResult deferred(
+        final Severity type,
+        final Object key,
+        final Supplier<String> message) {
+        return new RuleResult(
+            type,
+            null,
+            key,
+            Objects.requireNonNull(message));
+    }
+
+    /**
+     * Get the result type.
+     *
+     * @return the type
+     */
+    public Severity getType() {
+        return fType;
+    }
+
+    /**
+     * Get the result message. If this result has a deferred message, the
+     * message is created the first time this is called.
+     *
+     * @return the message; may be null
+     */
+    public String getMessage() {
+        if (fMessageSupplier == null) {
+            return fMessage;
+        }
+        if (fMessageSupplier instanceof DynamicMessage) {
+            // created again if no longer current
+            return fMessageSupplier.get();
+        }
+        if (!resolved) {
+            synchronized (this) {
+                if (!resolved) {
+                    suppliedMessage = fMessageSupplier.get();
+                    resolved = true;
+                }
+            }
+        }
+        return suppliedMessage;
+    }
+
+    /**
+     * Check if the message has been created.
+     *
+     * @return {@code false} if this result has a deferred message that has
+     *         not been created or a {@link DynamicMessage} that is not
+     *         current; {@code true} otherwise
+     */
+    public boolean isMessageResolved() {
+        if (fMessageSupplier instanceof DynamicMessage) {
+            return ((DynamicMessage) fMessageSupplier).isCurrent();
+        }
+        return resolved;
+    }
+
+    /**
+     * Get the supplier of the deferred message.
+     *
+     * @return the supplier or null if the message is not deferred
+     */
+    public Supplier<String> getMessageSupplier() {
+        return fMessageSupplier;
+    }
+
+    /**
+     * Get the key identifying the deferred message for equality.
+     *
+     * @return the key, which is the supplier if no key was specified, or null
+     *         if the message is not deferred
+     */
+    public Object getMessageKey() {
+        return fKey;
+    }
+
+    /**
+     * Check if this result is valid.
+     *
+     * @return {@code false} if the type is {@link Severity#WARNING} or
+     *         {@link Severity#DANGER}; {@code true} otherwise
+     */
+    public boolean isValid() {
+        return fType.isValid();
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RuleResult)) {
+            return false;
+        }
+        RuleResult other = (RuleResult) obj;
+        return hash == other.hash
+            && fType == other.fType
+            && (fMessageSupplier == null) == (other.fMessageSupplier == null)
+            && Objects.equals(fKey, other.fKey)
+            && Objects.equals(fMessage, other.fMessage);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This does not create a deferred message.
+     */
+    @Override
+    public String toString() {
+        if (!isMessageResolved()) {
+            return fType + ": (deferred)";
+        }
+        return fType + ": " + getMessage();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+/**
+ * The failures of one rule when validating a file with a
+ * {@link DelimitedFileValidator}.
+ *
+ * @author Randall Wood
+ */
+public final class RuleSummary {
+
+    /**
+     * The types in order of increasing {@link Severity#getRank() rank}.
+     */
+    private static final Severity[] TYPES = Severity.values();
+    /**
+     * The name of the field. (f for "field" to avoid conflict with parameter
+     * name)
+     */
+    private final String fField;
+    /**
+     * The number of failures of each type, indexed by type ordinal.
+     */
+    private final long[] counts;
+
+    /**
+     * Create a RuleSummary.
+     *
+     * @param field    the name of the field
+     * @param failures the number of failures of each type, indexed by type
+     *                 ordinal
+     */
+    RuleSummary(final String field, final long[] failures) {
+        this.fField = field;
+        this.counts = failures.clone();
+    }
+
+    /**
+     * Get the name of the field of the rule.
+     *
+     * @return the field name
+     */
+    public String getField() {
+        return fField;
+    }
+
+    /**
+     * Get the number of failures of the rule with the specified type.
+     *
+     * @param type the type to count
+     * @return the number of failures with type
+     */
+    public long getCount(final Severity type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Get the number of failures of the rule.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        long count = 0;
+        for (long c : counts) {
+            count += c;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(fField).append(':');
+        for (Severity type : TYPES) {
+            if (counts[type.ordinal()] > 0) {
+                builder.append(' ').append(type).append('=')
+                    .append(counts[type.ordinal()]);
+            }
+        }
+        return builder.toString();
+    }
+}
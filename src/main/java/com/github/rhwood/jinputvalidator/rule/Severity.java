@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+/**
+ * The severity of a {@link RuleResult}. Each severity corresponds to the
+ * {@link com.github.rhwood.jinputvalidator.Validation.Type} of the same
+ * name, which is used to display the result in a user interface.
+ * <p>
+ * Severities are declared in order of {@linkplain #getRank() rank}, from
+ * least to most severe: {@link #NONE}, {@link #SUCCESS},
+ * {@link #INFORMATION}, {@link #UNKNOWN}, {@link #WARNING}, and
+ * {@link #DANGER}. Where results are combined, for example by
+ * {@link ResultStore} and
+ * {@link com.github.rhwood.jinputvalidator.ValidationGroup}, the most severe
+ * in this order is reported. {@link #NONE}, {@link #SUCCESS},
+ * {@link #INFORMATION}, and {@link #UNKNOWN} are all considered valid.
+ *
+ * @author Randall Wood
+ */
+public enum Severity {
+    /**
+     * No result to report.
+     */
+    NONE,
+    /**
+     * The value is valid.
+     */
+    SUCCESS,
+    /**
+     * The value is valid, with information to report.
+     */
+    INFORMATION,
+    /**
+     * The value could not be determined to be valid or invalid. Considered
+     * valid.
+     */
+    UNKNOWN,
+    /**
+     * The value is invalid, but may be accepted.
+     */
+    WARNING,
+    /**
+     * The value is invalid.
+     */
+    DANGER;
+
+    /**
+     * Get the rank of this severity. A severity with a higher rank is more
+     * severe.
+     *
+     * @return the rank, from 0 for {@link #NONE}
+     */
+    public int getRank() {
+        return ordinal();
+    }
+
+    /**
+     * Check if a result with this severity is considered valid.
+     *
+     * @return {@code true} if not {@link #WARNING} or {@link #DANGER};
+     *         {@code false} otherwise
+     */
+    public boolean isValid() {
+        return this != WARNING && this != DANGER;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A catalog of localized validation messages, identified by keys in a
+ * {@link ResourceBundle} and formatted with {@link MessageFormat}. A single
+ * catalog is intended to be shared by all validators using the same
+ * messages.
+ * <p>
+ * The bundle for the current locale is loaded once, and the pattern for each
+ * key is compiled once into a {@link MessageFormat} that is reused for every
+ * message with that key. When the locale of the catalog changes, either by
+ * calling {@link #setLocale(java.util.Locale)} or, for a catalog following
+ * the default locale, by changing the default locale, the cached bundle and
+ * patterns are discarded, and every {@link LocalizedMessage} from this
+ * catalog is formatted again in the new locale the next time it is
+ * requested, so validators and validations do not need to be rebuilt.
+ * <p>
+ * Messages are usually created with {@link #message(java.lang.String,
+ * java.lang.Object...)} for use with
+ * {@link RuleResult#deferred(Severity, java.util.function.Supplier)} or
+ * {@link com.github.rhwood.jinputvalidator.Validation#deferred(
+ * com.github.rhwood.jinputvalidator.Validation.Type,
+ * java.util.function.Supplier)}, so messages that are never displayed are
+ * never formatted.
+ *
+ * @author Randall Wood
+ */
+public final class ValidationMessages {
+
+    /**
+     * The function loading the bundle for a locale. (f for "field" to avoid
+     * conflict with parameter name)
+     */
+    private final Function<Locale, ResourceBundle> fBundles;
+    /**
+     * The locale of this catalog or null to use the default locale. (f for
+     * "field" to avoid conflict with parameter name)
+     */
+    private volatile Locale fLocale = null;
+    /**
+     * The bundle and compiled patterns for the current locale; null until
+     * loaded.
+     */
+    private volatile Formats formats = null;
+
+    /**
+     * Create a ValidationMessages using the bundles with a base name loaded
+     * by a class loader.
+     *
+     * @param baseName the base name of the bundles; must not be null
+     * @param loader   the class loader to load the bundles with; must not be
+     *                 null
+     */
+    public ValidationMessages(
+        final String baseName,
+        final ClassLoader loader) {
+        this(locale -> ResourceBundle.getBundle(baseName, locale, loader));
+    }
+
+    /**
+     * Create a ValidationMessages using the bundles loaded by a function.
+     * This allows modular applications to load bundles from their own
+     * modules, for example using
+     * {@code locale -> ResourceBundle.getBundle("app.Messages", locale)}.
+     *
+     * @param bundles the function loading the bundle for a locale; must not
+     *                be null
+     */
+    public ValidationMessages(
+        final Function<Locale, ResourceBundle> bundles) {
+        this.fBundles = bundles;
+    }
+
+    /**
+     * Set the locale of messages from this catalog. Setting the locale
+     * discards the cached bundle and patterns.
+     *
+     * @param locale the locale or null to use the default locale
+     */
+    public void setLocale(final Locale locale) {
+        fLocale = locale;
+        invalidate();
+    }
+
+    /**
+     * Get the locale of messages from this catalog.
+     *
+     * @return the locale set with {@link #setLocale(java.util.Locale)} or
+     *         the default locale if not set
+     */
+    public Locale getLocale() {
+        Locale locale = fLocale;
+        if (locale == null) {
+            return Locale.getDefault();
+        }
+        return locale;
+    }
+
+    /**
+     * Discard the cached bundle and patterns, so that messages are formatted
+     * again, for example when the bundles have been changed. This is not
+     * needed to change locales.
+     */
+    public void invalidate() {
+        formats = null;
+    }
+
+    /**
+     * Format a message in the current locale.
+     *
+     * @param key       the key of the pattern in the bundle
+     * @param arguments the arguments of the pattern
+     * @return the formatted message or key if the pattern cannot be found
+     *         or is malformed
+     */
+    public String format(final String key, final Object... arguments) {
+        return getFormats().format(key, arguments);
+    }
+
+    /**
+     * Get a message that is formatted in the current locale when requested.
+     *
+     * @param key       the key of the pattern in the bundle; must not be null
+     * @param arguments the arguments of the pattern
+     * @return the message
+     */
+    public LocalizedMessage message(
+        final String key,
+        final Object... arguments) {
+        return new LocalizedMessage(this, key, arguments);
+    }
+
+    /**
+     * Get the bundle and compiled patterns for the current locale, loading
+     * the bundle if not loaded or loaded for another locale.
+     *
+     * @return the formats for the current locale
+     */
+    Formats getFormats() {
+        Locale locale = getLocale();
+        Formats current = formats;
+        if (current == null || !current.locale.equals(locale)) {
+            current = new Formats(locale, load(locale));
+            formats = current;
+        }
+        return current;
+    }
+
+    /**
+     * Check if formats are for the current locale and have not been
+     * discarded.
+     *
+     * @param loaded the formats to check
+     * @return {@code true} if loaded is current; {@code false} otherwise
+     */
+    boolean isCurrent(final Formats loaded) {
+        return loaded == formats && loaded.locale.equals(getLocale());
+    }
+
+    /**
+     * Load the bundle for a locale.
+     *
+     * @param locale the locale
+     * @return the bundle or null if the bundle cannot be loaded
+     */
+    private ResourceBundle load(final Locale locale) {
+        try {
+            return fBundles.apply(locale);
+        } catch (MissingResourceException ex) {
+            Logger.getLogger(ValidationMessages.class.getName()).log(
+                Level.SEVERE,
+                "Unable to load validation messages for " + locale,
+                ex);
+            return null;
+        }
+    }
+
+    /**
+     * The bundle and compiled patterns for a locale.
+     */
+    static final class Formats {
+
+        /**
+         * The locale.
+         */
+        private final Locale locale;
+        /**
+         * The bundle; may be null.
+         */
+        private final ResourceBundle bundle;
+        /**
+         * The compiled patterns by key.
+         */
+        private final ConcurrentHashMap<String, MessageFormat> patterns =
+            new ConcurrentHashMap<>();
+
+        /**
+         * Create a Formats.
+         *
+         * @param messageLocale the locale
+         * @param messageBundle the bundle for the locale; may be null
+         */
+        Formats(
+            final Locale messageLocale,
+            final ResourceBundle messageBundle) {
+            this.locale = messageLocale;
+            this.bundle = messageBundle;
+        }
+
+        /**
+         * Format a message.
+         *
+         * @param key       the key of the pattern in the bundle
+         * @param arguments the arguments of the pattern
+         * @return the formatted message or key if the pattern cannot be
+         *         found or is malformed
+         */
+        String format(final String key, final Object[] arguments) {
+            MessageFormat pattern = patterns.get(key);
+            if (pattern == null) {
+                pattern = patterns.computeIfAbsent(key, this::compile);
+            }
+            // MessageFormat is not thread-safe
+            synchronized (pattern) {
+                return pattern.format(arguments);
+            }
+        }
+
+        /**
+         * Compile the pattern for a key. If the pattern is missing or
+         * malformed, the error is logged and a pattern that formats as the
+         * key is returned, so the error is logged only once for the locale.
+         *
+         * @param key the key of the pattern in the bundle
+         * @return the compiled pattern
+         */
+        private MessageFormat compile(final String key) {
+            if (bundle != null) {
+                try {
+                    return new MessageFormat(bundle.getString(key), locale);
+                } catch (MissingResourceException ex) {
+                    Logger.getLogger(ValidationMessages.class.getName()).log(
+                        Level.SEVERE,
+                        "No validation message for " + key,
+                        ex);
+                } catch (IllegalArgumentException ex) {
+                    Logger.getLogger(ValidationMessages.class.getName()).log(
+                        Level.SEVERE,
+                        "Malformed validation message for " + key,
+                        ex);
+                }
+            }
+            // quote the key so it is formatted literally
+            return new MessageFormat("'" + key.replace("'", "''") + "'");
+        }
+    }
+}
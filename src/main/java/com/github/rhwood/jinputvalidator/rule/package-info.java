@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Validation rules and results that work on plain values, without Swing,
+ * AWT, or {@link java.util.prefs.Preferences}, so the same rules used by
+ * {@link com.github.rhwood.jinputvalidator.RuleValidator} can be used where
+ * no user interface is available.
+ */
+package com.github.rhwood.jinputvalidator.rule;
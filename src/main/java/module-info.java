@@ -22,4 +22,6 @@ module JInputValidator {
     requires transitive java.logging;
     requires transitive java.prefs;
     exports com.github.rhwood.jinputvalidator;
+    exports com.github.rhwood.jinputvalidator.rule;
+    exports com.github.rhwood.jinputvalidator.border;
 }
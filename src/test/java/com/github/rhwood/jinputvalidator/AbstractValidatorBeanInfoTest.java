@@ -7,6 +7,7 @@ import static java.beans.BeanInfo.ICON_MONO_32x32;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.beans.BeanInfo;
 
@@ -40,6 +41,8 @@ abstract class AbstractValidatorBeanInfoTest {
     @Test
     void TestGetEventSetDescriptors() {
         assertNotNull(info.getEventSetDescriptors());
+        assertEquals("validationListener", info.getEventSetDescriptors()[1].getName());
+        assertEquals(ValidationListener.class, info.getEventSetDescriptors()[1].getListenerType());
     }
 
     @Test
@@ -56,4 +59,33 @@ abstract class AbstractValidatorBeanInfoTest {
     void TestGetDefaultEventIndex() {
         assertEquals(-1, info.getDefaultEventIndex());
     }
+
+    @Test
+    void testCachedDescriptors() throws Exception {
+        BeanInfo other = info.getClass().getDeclaredConstructor().newInstance();
+        assertSame(info.getBeanDescriptor(), other.getBeanDescriptor());
+        assertSame(info.getPropertyDescriptors()[0], other.getPropertyDescriptors()[0]);
+        assertSame(info.getMethodDescriptors()[0], other.getMethodDescriptors()[0]);
+        assertSame(info.getEventSetDescriptors()[0], other.getEventSetDescriptors()[0]);
+        assertSame(info.getIcon(ICON_COLOR_16x16), other.getIcon(ICON_MONO_16x16));
+        assertSame(info.getIcon(ICON_COLOR_32x32), other.getIcon(ICON_MONO_32x32));
+        // changing a returned array does not change the descriptors
+        info.getMethodDescriptors()[0] = null;
+        assertNotNull(other.getMethodDescriptors()[0]);
+    }
+
+    @Test
+    void testDescriptorsBuiltOnce() throws Exception {
+        // building descriptors for each call would build four arrays per
+        // instance; with shared descriptors, none are built once loaded
+        int builds = AbstractValidatorBeanInfo.BUILDS.get();
+        for (int i = 0; i < 100; i++) {
+            BeanInfo other = info.getClass().getDeclaredConstructor().newInstance();
+            assertNotNull(other.getBeanDescriptor());
+            assertNotNull(other.getPropertyDescriptors());
+            assertNotNull(other.getMethodDescriptors());
+            assertNotNull(other.getEventSetDescriptors());
+        }
+        assertEquals(builds, AbstractValidatorBeanInfo.BUILDS.get());
+    }
 }
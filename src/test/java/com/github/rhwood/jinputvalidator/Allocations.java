@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the memory allocated by the current thread, so tests can check
+ * that validating unchanged input does not allocate.
+ *
+ * @author Randall Wood
+ */
+final class Allocations {
+
+    private Allocations() {
+        // utility class
+    }
+
+    /**
+     * Get the bytes allocated by the current thread running a task
+     * repeatedly, after running it to warm up. Skips the calling test if the
+     * JVM cannot count allocations.
+     *
+     * @param task  the task to measure
+     * @param calls the number of times to run task
+     * @return the bytes allocated
+     */
+    static long measure(Runnable task, int calls) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "allocation counting is not available");
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(counter.isThreadAllocatedMemorySupported() && counter.isThreadAllocatedMemoryEnabled(),
+                "allocation counting is not enabled");
+        for (int i = 0; i < calls * 2; i++) {
+            task.run();
+        }
+        long id = Thread.currentThread().getId();
+        long before = counter.getThreadAllocatedBytes(id);
+        for (int i = 0; i < calls; i++) {
+            task.run();
+        }
+        return counter.getThreadAllocatedBytes(id) - before;
+    }
+}
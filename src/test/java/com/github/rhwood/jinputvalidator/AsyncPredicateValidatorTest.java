@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.awt.Color;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.swing.JLabel;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link AsyncPredicateValidator} with an executor that runs
+ * queued tests only when asked.
+ *
+ * @author Randall Wood
+ */
+class AsyncPredicateValidatorTest {
+
+    /**
+     * Executor that holds tasks until explicitly run.
+     */
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+
+    private void runTasks() throws InterruptedException, InvocationTargetException {
+        List<Runnable> queued = new ArrayList<>(tasks);
+        tasks.clear();
+        queued.forEach(Runnable::run);
+        // flush results posted to the EDT
+        SwingUtilities.invokeAndWait(() -> {
+            // nothing to do
+        });
+    }
+
+    @Test
+    void testPendingAndResult() throws Exception {
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), null, false, executor,
+                JInputValidatorPreferences.getPreferences());
+        c.setText("not ok");
+        assertTrue(v.verify(c));
+        assertTrue(v.isPending());
+        assertEquals(Type.UNKNOWN, v.getValidation().getType());
+        assertEquals(1, tasks.size());
+        // verifying the same text does not test the predicate again
+        assertTrue(v.verify(c));
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertFalse(v.isPending());
+        assertEquals(Type.DANGER, v.getValidation().getType());
+        assertFalse(v.verify(c));
+        assertEquals(0, tasks.size());
+    }
+
+    @Test
+    void testStaleResultDiscarded() throws Exception {
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), null, false, executor,
+                JInputValidatorPreferences.getPreferences());
+        c.setText("not ok");
+        v.verify(c);
+        c.setText("ok");
+        v.verify(c);
+        assertEquals(2, tasks.size());
+        runTasks();
+        assertEquals(Type.NONE, v.getValidation().getType());
+        // revert to text with a known result while a test is pending
+        c.setText("not ok");
+        v.verify(c);
+        c.setText("ok");
+        assertTrue(v.verify(c));
+        assertFalse(v.isPending());
+        runTasks();
+        assertEquals(Type.NONE, v.getValidation().getType());
+    }
+
+    @Test
+    void testValidateAllDiscardsPendingResult() throws Exception {
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), null, false, executor,
+                JInputValidatorPreferences.getPreferences());
+        c.setText("not ok");
+        v.verify(c);
+        assertTrue(v.isPending());
+        c.setText("ok");
+        ValidationGroup group = new ValidationGroup();
+        group.add(v);
+        assertEquals(Type.NONE, group.validateAll().get(10, TimeUnit.SECONDS).getWorstType());
+        assertFalse(v.isPending());
+        runTasks();
+        assertEquals(Type.NONE, v.getValidation().getType());
+    }
+
+    @Test
+    void testResultUsesCurrentPreferences() throws Exception {
+        JInputValidatorPreferences original = JInputValidatorPreferences.getPreferences();
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), null, false, executor, original);
+        c.setText("not ok");
+        v.verify(c);
+        runTasks();
+        assertEquals(original.getColor(Type.DANGER), v.getValidation().getColor());
+        Properties properties = new Properties();
+        properties.setProperty("danger.color", "0");
+        try {
+            JInputValidatorPreferences.setPreferences(JInputValidatorPreferences.getPreferences(properties));
+            SwingUtilities.invokeAndWait(() -> {
+                // wait for validators to be updated
+            });
+            // the known result is displayed with the new preferences
+            assertFalse(v.verify(c));
+            assertEquals(0, tasks.size());
+            assertEquals(Color.BLACK, v.getValidation().getColor());
+        } finally {
+            JInputValidatorPreferences.setPreferences(original);
+            SwingUtilities.invokeAndWait(() -> {
+                // wait for validators to be updated
+            });
+        }
+    }
+
+    @Test
+    void testPendingValidation() throws Exception {
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), null, false, executor,
+                JInputValidatorPreferences.getPreferences());
+        assertNull(v.getPendingValidation());
+        Validation pending = new Validation(Type.INFORMATION, "checking");
+        v.setPendingValidation(pending);
+        assertSame(pending, v.getPendingValidation());
+        c.setText("not ok");
+        v.verify(c);
+        assertEquals(pending, v.getValidation());
+    }
+
+    @Test
+    void testPredicateException() throws Exception {
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> {
+            throw new IllegalStateException("failed");
+        }, new Validation(Type.DANGER, "bad"), null, false, executor,
+                JInputValidatorPreferences.getPreferences());
+        c.setText("text");
+        v.verify(c);
+        runTasks();
+        assertFalse(v.isPending());
+        assertEquals(Type.UNKNOWN, v.getValidation().getType());
+    }
+
+    @Test
+    void testRejectedExecution() {
+        JTextField c = new JTextField();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), null, false, task -> {
+                    throw new RejectedExecutionException();
+                }, JInputValidatorPreferences.getPreferences());
+        c.setText("not ok");
+        assertFalse(v.verify(c));
+        assertFalse(v.isPending());
+        assertEquals(Type.DANGER, v.getValidation().getType());
+    }
+
+    @Test
+    void testNonTextComponentValidation() {
+        JLabel c = new JLabel();
+        AsyncPredicateValidator v = new AsyncPredicateValidator(c, (String t) -> t.equals("ok"),
+                new Validation(Type.DANGER, "bad"), executor);
+        assertTrue(v.verify(c));
+        assertEquals(Type.NONE, v.getValidation().getType());
+        assertEquals(0, tasks.size());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import javax.swing.JLabel;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CharSequencePredicateValidator}, including that verifying
+ * does not copy the text.
+ *
+ * @author Randall Wood
+ */
+class CharSequencePredicateValidatorTest {
+
+    @Test
+    void testGetValidation() {
+        JTextField c = new JTextField();
+        Validation valid = new Validation(Type.SUCCESS, "");
+        Validation invalid = new Validation(Type.DANGER, "");
+        CharSequencePredicateValidator v = new CharSequencePredicateValidator(c,
+                (CharSequence t) -> t.length() > 0 && t.charAt(0) == 'a', invalid, valid, false, true,
+                JInputValidatorPreferences.getPreferences());
+        assertFalse(v.verify(c));
+        assertEquals(invalid, v.getValidation());
+        c.setText("abc");
+        assertTrue(v.verify(c));
+        assertEquals(valid, v.getValidation());
+        v = new CharSequencePredicateValidator(c, (CharSequence t) -> t.length() == 3, invalid);
+        assertTrue(v.verify(c));
+        assertEquals(v.getNoneValidation(), v.getValidation());
+    }
+
+    @Test
+    void testVerifyDoesNotAllocate() {
+        JTextField c = new JTextField("abc");
+        CharSequencePredicateValidator v = new CharSequencePredicateValidator(c,
+                (CharSequence t) -> t.length() > 0 && t.charAt(0) == 'a', new Validation(Type.DANGER, "a"),
+                new Validation(Type.SUCCESS, "b"), false, true, JInputValidatorPreferences.getPreferences());
+        int calls = 10_000;
+        long allocated = Allocations.measure(() -> v.verify(c), calls);
+        // allow for allocation by the measurement itself
+        assertTrue(allocated < calls, "allocated " + allocated + " bytes in " + calls + " calls");
+    }
+
+    @Test
+    void testLargeDocument() throws BadLocationException {
+        JTextArea c = new JTextArea();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("line ").append(i).append('\n');
+        }
+        c.setText(builder.toString());
+        // insert in the middle so the document content has a gap
+        c.getDocument().insertString(builder.length() / 2, "error", null);
+        String expected = c.getText();
+        CharSequencePredicateValidator v = new CharSequencePredicateValidator(c,
+                (CharSequence t) -> !t.toString().contains("error") && t.length() == expected.length(),
+                new Validation(Type.DANGER, "error"));
+        assertFalse(v.verify(c));
+        c.getDocument().remove(builder.length() / 2, "error".length());
+        assertFalse(v.verify(c));
+        assertEquals(Type.DANGER, v.getValidation().getType());
+    }
+
+    @Test
+    void testDocumentCharSequence() throws BadLocationException {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "0123456789", null);
+        document.insertString(5, "abc", null);
+        DocumentCharSequence sequence = new DocumentCharSequence();
+        sequence.setDocument(document);
+        String expected = document.getText(0, document.getLength());
+        assertEquals(expected.length(), sequence.length());
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.charAt(i), sequence.charAt(i));
+        }
+        // read backwards to exercise segment lookup
+        for (int i = expected.length() - 1; i >= 0; i--) {
+            assertEquals(expected.charAt(i), sequence.charAt(i));
+        }
+        assertEquals(expected, sequence.toString());
+        assertEquals(expected.substring(3, 9), sequence.subSequence(3, 9).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(expected.length()));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(4, 3));
+        sequence.clear();
+        assertEquals(0, sequence.length());
+        assertEquals("", sequence.toString());
+    }
+
+    @Test
+    void testNonTextComponentValidation() {
+        JLabel c = new JLabel();
+        CharSequencePredicateValidator v = new CharSequencePredicateValidator(c, (CharSequence t) -> false,
+                new Validation(Type.DANGER, ""));
+        assertTrue(v.verify(c));
+        assertEquals(Type.NONE, v.getValidation().getType());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.PlainDocument;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link IncrementalValidator} applying document changes to
+ * incremental state.
+ *
+ * @author Randall Wood
+ */
+class IncrementalValidatorTest {
+
+    /**
+     * Tracks bracket depth; removals require a full scan.
+     */
+    private static class BracketValidator extends IncrementalValidator {
+
+        private int depth = 0;
+        private int resets = 0;
+        private int inserts = 0;
+
+        BracketValidator(JComponent component) {
+            super(component, false, true);
+        }
+
+        @Override
+        protected void reset(Document document) throws BadLocationException {
+            resets++;
+            depth = 0;
+            update(document.getText(0, document.getLength()), 1);
+        }
+
+        @Override
+        protected boolean insertUpdate(Document document, int offset, int length) {
+            inserts++;
+            try {
+                update(document.getText(offset, length), 1);
+                return true;
+            } catch (BadLocationException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        protected boolean removeUpdate(Document document, int offset, int length) {
+            return false;
+        }
+
+        @Override
+        protected Validation getStateValidation(JInputValidatorPreferences preferences) {
+            return new Validation(depth == 0 ? Type.NONE : Type.DANGER, Integer.toString(depth), preferences);
+        }
+
+        private void update(String text, int sign) {
+            for (char c : text.toCharArray()) {
+                if (c == '(') {
+                    depth += sign;
+                } else if (c == ')') {
+                    depth -= sign;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIncrementalUpdates() throws BadLocationException {
+        JTextArea c = new JTextArea();
+        BracketValidator v = new BracketValidator(c);
+        assertTrue(v.isStale());
+        assertTrue(v.verify(c));
+        assertEquals(1, v.resets);
+        assertFalse(v.isStale());
+        Document document = c.getDocument();
+        document.insertString(0, "(a", null);
+        assertFalse(v.verify(c));
+        document.insertString(2, "(b)", null);
+        assertFalse(v.verify(c));
+        assertEquals("1", v.getValidation().getMessage());
+        document.insertString(document.getLength(), ")", null);
+        assertTrue(v.verify(c));
+        // inserts did not require a full scan
+        assertEquals(1, v.resets);
+        assertEquals(3, v.inserts);
+        // removal falls back to a full scan
+        document.remove(0, 1);
+        assertTrue(v.isStale());
+        assertFalse(v.verify(c));
+        assertEquals(2, v.resets);
+        assertEquals("-1", v.getValidation().getMessage());
+    }
+
+    @Test
+    void testDocumentReplaced() throws BadLocationException {
+        JTextArea c = new JTextArea();
+        BracketValidator v = new BracketValidator(c);
+        assertTrue(v.verify(c));
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "((", null);
+        c.setDocument(document);
+        assertTrue(v.isStale());
+        assertFalse(v.verify(c));
+        assertEquals(2, v.resets);
+        assertEquals("2", v.getValidation().getMessage());
+    }
+
+    @Test
+    void testNonTextComponentValidation() {
+        JLabel c = new JLabel();
+        BracketValidator v = new BracketValidator(c);
+        assertTrue(v.verify(c));
+        assertEquals(Type.NONE, v.getValidation().getType());
+        assertEquals(0, v.resets);
+    }
+
+    @Test
+    void testChangesOffEventDispatchThread() throws Exception {
+        JTextArea c = new JTextArea();
+        BracketValidator v = new BracketValidator(c);
+        Document document = c.getDocument();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String text = i % 2 == 0 ? "(" : ")";
+            Thread writer = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    try {
+                        document.insertString(document.getLength() / 2, text, null);
+                    } catch (BadLocationException ex) {
+                        throw new AssertionError(ex);
+                    }
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        Thread verifier = new Thread(() -> {
+            while (writing.get()) {
+                try {
+                    SwingUtilities.invokeAndWait(() -> v.verify(c));
+                } catch (Exception ex) {
+                    throw new AssertionError(ex);
+                }
+            }
+        });
+        verifier.start();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        writing.set(false);
+        verifier.join();
+        SwingUtilities.invokeAndWait(() -> {
+            // incremental state matches the state built from the whole document
+            assertTrue(v.verify(c));
+            assertEquals("0", v.getValidation().getMessage());
+            assertEquals(2000, document.getLength());
+        });
+        assertFalse(v.isStale());
+    }
+}
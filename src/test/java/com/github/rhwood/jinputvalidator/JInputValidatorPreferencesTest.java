@@ -22,14 +22,31 @@ import static com.github.rhwood.jinputvalidator.JInputValidatorPreferences.DEFAU
 import static com.github.rhwood.jinputvalidator.JInputValidatorPreferences.DEFAULT_WARNING_COLOR;
 import java.awt.Color;
 import java.awt.SystemColor;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 import javax.swing.JLabel;
+import javax.swing.UIManager;
 import org.junit.jupiter.api.Test;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 
 /**
@@ -64,6 +81,8 @@ class JInputValidatorPreferencesTest {
         assertEquals("\uf058", preferences.getIcon(Validation.Type.SUCCESS), "default success icon");
         assertEquals("\uf059", preferences.getIcon(Validation.Type.UNKNOWN), "default unknown icon");
         assertEquals("\uf071", preferences.getIcon(Validation.Type.WARNING), "default warning icon");
+        assertEquals(0, preferences.getDebounceDelay(), "default debounce delay");
+        assertEquals(0, preferences.getDebounceBurst(), "default debounce burst");
     }
 
     /**
@@ -74,6 +93,7 @@ class JInputValidatorPreferencesTest {
         Preferences parameter = Preferences.systemNodeForPackage(JInputValidatorPreferences.class);
         parameter.put("danger.icon", "foo");
         parameter.put("danger.color", "0");
+        parameter.putInt("debounce.delay", 250);
         JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences(parameter);
         // same assertions as in testGetPrefences_0args, except DANGER is different
         assertNotNull(preferences);
@@ -90,6 +110,7 @@ class JInputValidatorPreferencesTest {
         assertEquals("\uf058", preferences.getIcon(Validation.Type.SUCCESS), "default success icon");
         assertEquals("\uf059", preferences.getIcon(Validation.Type.UNKNOWN), "default unknown icon");
         assertEquals("\uf071", preferences.getIcon(Validation.Type.WARNING), "default warning icon");
+        assertEquals(250, preferences.getDebounceDelay(), "overridden debounce delay");
     }
     
     /**
@@ -105,5 +126,159 @@ class JInputValidatorPreferencesTest {
         assertNotNull(preferences);
         assertEquals(defaultFont, preferences.getFont().getFontName(), "invalid font");
     }
-    
+
+    /**
+     * Test that fonts are shared and can be preloaded.
+     */
+    @Test
+    void testSharedFont() throws Exception {
+        Preferences parameter = Preferences.systemNodeForPackage(JInputValidatorPreferences.class);
+        JInputValidatorPreferences p1 = JInputValidatorPreferences.getPreferences(parameter);
+        JInputValidatorPreferences p2 = JInputValidatorPreferences.getPreferences(parameter);
+        assertEquals(p1.getFontPath(), p2.getFontPath());
+        assertSame(p1.getFont(), p1.preloadFont().get());
+        assertTrue(FontCache.isLoaded(p1.getFontPath()));
+        assertSame(p1.getFont(), p2.getFont());
+    }
+
+    /**
+     * Test that a font can be loaded on a background thread.
+     */
+    @Test
+    void testPreloadFont() throws Exception {
+        String path = "/com/github/rhwood/jinputvalidator/Font Awesome 5 Free-Solid-900.otf";
+        assertEquals("Font Awesome 5 Free Solid", FontCache.preload(path).get().getFontName());
+        assertTrue(FontCache.isLoaded(path));
+        assertSame(FontCache.getFont(path), FontCache.preload(path).get());
+    }
+
+    /**
+     * Test that a font that cannot be loaded is replaced, but not cached.
+     */
+    @Test
+    void testMissingFont() throws Exception {
+        String path = "/com/github/rhwood/jinputvalidator/missing.otf";
+        Logger logger = Logger.getLogger(JInputValidatorPreferences.class.getName());
+        Level level = logger.getLevel();
+        logger.setLevel(Level.OFF);
+        try {
+            assertEquals(UIManager.getFont("Label.font"), FontCache.getFont(path));
+            assertEquals(UIManager.getFont("Label.font"), FontCache.preload(path).get());
+            assertFalse(FontCache.isLoaded(path));
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
+    /**
+     * Test of getPreferences method, of class JInputValidatorPreferences with Properties.
+     */
+    @Test
+    void testGetPreferences_Properties() {
+        Properties properties = new Properties();
+        properties.setProperty("danger.icon", "foo");
+        properties.setProperty("danger.color", "0");
+        properties.setProperty("warning.color", "not a color");
+        properties.setProperty("debounce.burst", "50");
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences(properties);
+        assertEquals("foo", preferences.getIcon(Validation.Type.DANGER), "overridden danger icon");
+        assertEquals(Color.BLACK, preferences.getColor(Validation.Type.DANGER), "overridden danger color");
+        assertEquals(new Color(DEFAULT_WARNING_COLOR), preferences.getColor(Validation.Type.WARNING), "invalid warning color");
+        assertEquals("\uf071", preferences.getIcon(Validation.Type.WARNING), "default warning icon");
+        assertEquals(50, preferences.getDebounceBurst(), "overridden debounce burst");
+        assertEquals(JInputValidatorPreferences.getPreferences().getFontPath(), preferences.getFontPath(), "default font");
+    }
+
+    /**
+     * Test that the default preferences can be replaced.
+     */
+    @Test
+    void testSetPreferences() {
+        JInputValidatorPreferences original = JInputValidatorPreferences.getPreferences();
+        JInputValidatorPreferences replacement = JInputValidatorPreferences.getPreferences(new Properties());
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        PropertyChangeListener listener = events::add;
+        JInputValidatorPreferences.addDefaultPreferencesListener(listener);
+        try {
+            JInputValidatorPreferences.setPreferences(replacement);
+            assertSame(replacement, JInputValidatorPreferences.getPreferences());
+            assertTrue(JInputValidatorPreferences.isDefault(replacement));
+            assertFalse(JInputValidatorPreferences.isDefault(original));
+            assertEquals(1, events.size());
+            assertSame(original, events.get(0).getOldValue());
+            assertSame(replacement, events.get(0).getNewValue());
+        } finally {
+            JInputValidatorPreferences.setPreferences(original);
+            JInputValidatorPreferences.removeDefaultPreferencesListener(listener);
+        }
+        assertSame(original, JInputValidatorPreferences.getPreferences());
+    }
+
+    /**
+     * Test that the default preferences are replaced when the Preferences
+     * they are read from change.
+     */
+    @Test
+    void testPreferenceChange() throws BackingStoreException {
+        JInputValidatorPreferences original = JInputValidatorPreferences.getPreferences();
+        // a dedicated node, so the user's preferences are not changed
+        Preferences node = Preferences.userNodeForPackage(JInputValidatorPreferencesTest.class)
+                .node("testPreferenceChange");
+        try {
+            JInputValidatorPreferences.setPreferences(node);
+            assertEquals(0, JInputValidatorPreferences.getPreferences().getDebounceDelay());
+            node.putInt("debounce.delay", 75);
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> JInputValidatorPreferences.getPreferences().getDebounceDelay() == 75);
+            assertNotSame(original, JInputValidatorPreferences.getPreferences());
+        } finally {
+            JInputValidatorPreferences.setPreferences(original);
+            node.removeNode();
+        }
+        assertSame(original, JInputValidatorPreferences.getPreferences());
+    }
+
+    @Test
+    void testPreferenceChangeListenedOnce() throws BackingStoreException {
+        JInputValidatorPreferences original = JInputValidatorPreferences.getPreferences();
+        Preferences node = Preferences.userNodeForPackage(JInputValidatorPreferencesTest.class)
+                .node("testPreferenceChangeListenedOnce");
+        AtomicInteger replaced = new AtomicInteger();
+        PropertyChangeListener listener = evt -> replaced.incrementAndGet();
+        try {
+            JInputValidatorPreferences.setPreferences(node);
+            JInputValidatorPreferences.setPreferences(node);
+            JInputValidatorPreferences.setPreferences(node);
+            JInputValidatorPreferences.addDefaultPreferencesListener(listener);
+            node.putInt("debounce.delay", 75);
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> JInputValidatorPreferences.getPreferences().getDebounceDelay() == 75);
+            // changes are delivered in order, so all rebuilds for the first
+            // change are done once the second change is seen
+            node.putInt("debounce.burst", 25);
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> JInputValidatorPreferences.getPreferences().getDebounceBurst() == 25);
+            assertEquals(2, replaced.get());
+        } finally {
+            JInputValidatorPreferences.removeDefaultPreferencesListener(listener);
+            JInputValidatorPreferences.setPreferences(original);
+            node.removeNode();
+        }
+    }
+
+    @Test
+    void testGetIntFallsThrough() {
+        Map<String, String> user = new HashMap<>();
+        Map<String, String> defaults = new HashMap<>();
+        user.put("debounce.delay", "not a number");
+        defaults.put("debounce.delay", "75");
+        user.put("debounce.burst", "50");
+        defaults.put("debounce.burst", "100");
+        defaults.put("warning.color", "also not a number");
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences(
+                Arrays.asList(user::get, defaults::get));
+        assertEquals(75, preferences.getDebounceDelay());
+        assertEquals(50, preferences.getDebounceBurst());
+        assertEquals(new Color(DEFAULT_WARNING_COLOR), preferences.getColor(Validation.Type.WARNING));
+    }
 }
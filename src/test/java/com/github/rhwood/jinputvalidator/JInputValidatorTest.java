@@ -22,9 +22,15 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.github.rhwood.jinputvalidator.border.IconSpaceBorder;
 import javax.swing.JComponent;
+import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
 import javax.swing.text.PlainDocument;
 import javax.swing.text.JTextComponent;
 import static org.awaitility.Awaitility.await;
@@ -34,7 +40,9 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -191,6 +199,227 @@ class JInputValidatorTest {
         assertEquals(new Color(0x73BCF7), v1.getColor());
     }
 
+    @Test
+    void testVerifyReusesBorder() {
+        JTextField c = new JTextField();
+        javax.swing.border.Border original = c.getBorder();
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.isEmpty(),
+                new Validation(Type.WARNING, "warning"));
+        c.setText("a");
+        assertFalse(v.verify(c));
+        javax.swing.border.Border warning = c.getBorder();
+        assertNotSame(original, warning);
+        c.setText("");
+        assertTrue(v.verify(c));
+        assertSame(original, c.getBorder());
+        c.setText("a");
+        assertFalse(v.verify(c));
+        assertSame(warning, c.getBorder());
+    }
+
+    @Test
+    void testValidationListener() {
+        JTextField c = new JTextField();
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.isEmpty(),
+                new Validation(Type.WARNING, "warning"), false, true);
+        StringBuilder changes = new StringBuilder();
+        ValidationListener listener = (oldType, newType, validator) -> {
+            assertSame(v, validator);
+            changes.append(oldType).append('>').append(newType).append(' ');
+        };
+        v.addValidationListener(listener);
+        assertArrayEquals(new ValidationListener[]{listener}, v.getValidationListeners());
+        c.setText("a");
+        assertFalse(v.verify(c));
+        assertFalse(v.verify(c));
+        c.setText("");
+        assertTrue(v.verify(c));
+        assertEquals("NONE>WARNING WARNING>NONE", changes.toString().trim());
+        v.removeValidationListener(listener);
+        assertEquals(0, v.getValidationListeners().length);
+        c.setText("a");
+        assertFalse(v.verify(c));
+        assertEquals("NONE>WARNING WARNING>NONE", changes.toString().trim());
+    }
+
+    /**
+     * Test that validation listeners are only notified of changes in type,
+     * while property change listeners are notified of every change.
+     */
+    @Test
+    void testValidationListenerTypeChangesOnly() {
+        JTextField c = new JTextField();
+        JInputValidator v = new JInputValidator(c, false, true) {
+            @Override
+            protected Validation getValidation(JComponent input, JInputValidatorPreferences preferences) {
+                return new Validation(Type.WARNING, ((JTextComponent) input).getText());
+            }
+        };
+        AtomicInteger typeChanges = new AtomicInteger();
+        AtomicInteger propertyChanges = new AtomicInteger();
+        v.addValidationListener((oldType, newType, validator) -> typeChanges.incrementAndGet());
+        v.addPropertyChangeListener("validation", evt -> propertyChanges.incrementAndGet());
+        c.setText("a");
+        v.verify(c);
+        c.setText("b");
+        v.verify(c);
+        assertEquals(1, typeChanges.get());
+        assertEquals(2, propertyChanges.get());
+    }
+
+    /**
+     * Test that a listener that throws does not prevent later updates.
+     */
+    @Test
+    void testThrowingValidationListener() {
+        JTextField c = new JTextField();
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.isEmpty(),
+                new Validation(Type.WARNING, "warning"), false, true);
+        AtomicBoolean fail = new AtomicBoolean(true);
+        AtomicInteger changes = new AtomicInteger();
+        v.addValidationListener((oldType, newType, validator) -> {
+            changes.incrementAndGet();
+            if (fail.getAndSet(false)) {
+                throw new IllegalStateException("expected");
+            }
+        });
+        c.setText("a");
+        assertThrows(IllegalStateException.class, () -> v.verify(c));
+        c.setText("");
+        assertTrue(v.verify(c));
+        assertEquals(Type.NONE, v.getValidation().getType());
+        assertEquals(2, changes.get());
+    }
+
+    /**
+     * Test that a deferred message is only created when the tool tip may be
+     * shown.
+     */
+    @Test
+    void testDeferredMessage() {
+        JTextField c = new JTextField();
+        c.setToolTipText("original");
+        AtomicInteger calls = new AtomicInteger();
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.isEmpty(),
+                Validation.deferred(Type.WARNING, () -> "warning " + calls.incrementAndGet()), false, true);
+        c.setText("a");
+        assertFalse(v.verify(c));
+        assertTrue(v.isMessagePending());
+        assertEquals("", c.getToolTipText());
+        c.setText("");
+        assertTrue(v.verify(c));
+        assertFalse(v.isMessagePending());
+        assertEquals("original", c.getToolTipText());
+        c.setText("a");
+        assertFalse(v.verify(c));
+        assertEquals(0, calls.get(), "message not created");
+        c.dispatchEvent(new java.awt.event.MouseEvent(c, java.awt.event.MouseEvent.MOUSE_ENTERED,
+                System.currentTimeMillis(), 0, 1, 1, 0, false));
+        assertFalse(v.isMessagePending());
+        assertEquals("warning 1", c.getToolTipText());
+        c.dispatchEvent(new java.awt.event.MouseEvent(c, java.awt.event.MouseEvent.MOUSE_ENTERED,
+                System.currentTimeMillis(), 0, 1, 1, 0, false));
+        assertEquals(1, calls.get(), "message created once");
+    }
+
+    /**
+     * Test that changing validation does not lay out the container when space
+     * for the icon is reserved.
+     */
+    @Test
+    void testIconSpaceReserved() throws Exception {
+        AtomicInteger layouts = new AtomicInteger();
+        JTextField c = new JTextField() {
+            @Override
+            public void invalidate() {
+                layouts.incrementAndGet();
+                super.invalidate();
+            }
+        };
+        javax.swing.border.Border original = c.getBorder();
+        // components are only laid out again within a container
+        new JPanel().add(c);
+        // change validation without changing text, since text changes lay out text fields
+        AtomicBoolean valid = new AtomicBoolean(true);
+        PredicateValidator v = new PredicateValidator(c, (String t) -> valid.get(),
+                new Validation(Type.WARNING, "warning"));
+        assertFalse(v.isIconSpaceReserved());
+        v.setIconSpaceReserved(true);
+        assertTrue(v.isIconSpaceReserved());
+        assertTrue(c.getBorder() instanceof IconSpaceBorder);
+        java.awt.Insets insets = c.getInsets();
+        SwingUtilities.invokeAndWait(() -> {
+            // wait for layout with the reserved space
+        });
+        layouts.set(0);
+        valid.set(false);
+        assertFalse(v.verify(c));
+        assertEquals("warning", c.getToolTipText());
+        assertEquals(insets, c.getInsets());
+        valid.set(true);
+        assertTrue(v.verify(c));
+        assertEquals(insets, c.getInsets());
+        SwingUtilities.invokeAndWait(() -> {
+            // wait for any layout
+        });
+        assertEquals(0, layouts.get(), "component not laid out");
+        v.setIconSpaceReserved(false);
+        assertSame(original, c.getBorder());
+        SwingUtilities.invokeAndWait(() -> {
+            // wait for layout without the reserved space
+        });
+        layouts.set(0);
+        valid.set(false);
+        assertFalse(v.verify(c));
+        SwingUtilities.invokeAndWait(() -> {
+            // wait for any layout
+        });
+        assertTrue(layouts.get() > 0, "component laid out");
+    }
+
+    /**
+     * Test that validators using the default preferences follow replaced
+     * default preferences.
+     */
+    @Test
+    void testDefaultPreferencesReplaced() throws Exception {
+        JInputValidatorPreferences original = JInputValidatorPreferences.getPreferences();
+        JTextField c = new JTextField();
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.isEmpty(),
+                new Validation(Type.WARNING, "warning"));
+        JTextField c2 = new JTextField("a");
+        CharSequencePredicateValidator v2 = new CharSequencePredicateValidator(c2, (CharSequence t) -> false,
+                new Validation(Type.WARNING, "warning"));
+        c.setText("a");
+        assertFalse(v.verify(c));
+        javax.swing.border.Border warning = c.getBorder();
+        Properties properties = new Properties();
+        properties.setProperty("warning.color", "0");
+        properties.setProperty("debounce.delay", "100");
+        try {
+            JInputValidatorPreferences.setPreferences(JInputValidatorPreferences.getPreferences(properties));
+            SwingUtilities.invokeAndWait(() -> {
+                // wait for validators to be updated
+            });
+            assertEquals(Color.BLACK, v.getValidation().getColor());
+            assertEquals("warning", v.getValidation().getMessage());
+            assertNotSame(warning, c.getBorder());
+            assertEquals(100, v.getDebounceDelay());
+            assertFalse(v.verify(c));
+            assertFalse(v2.verify(c2));
+            assertEquals(Color.BLACK, v2.getValidation().getColor());
+        } finally {
+            JInputValidatorPreferences.setPreferences(original);
+            SwingUtilities.invokeAndWait(() -> {
+                // wait for validators to be updated
+            });
+        }
+        assertEquals(original.getColor(Type.WARNING), v.getValidation().getColor());
+        assertEquals(0, v.getDebounceDelay());
+        assertFalse(v2.verify(c2));
+        assertEquals(original.getColor(Type.WARNING), v2.getValidation().getColor());
+    }
+
     /**
      * Test of addPropertyChangeListener method, of class JInputValidator.
      */
@@ -312,4 +541,91 @@ class JInputValidatorTest {
         pcs.addPropertyChangeListener(l);
         assertArrayEquals(new PropertyChangeListener[]{l}, v.getPropertyChangeListeners());
     }
+
+    @Test
+    void testDebounceDelay() throws Exception {
+        JTextField c = new JTextField();
+        AtomicInteger count = new AtomicInteger();
+        JInputValidator v = new JInputValidator(c) {
+            @Override
+            protected Validation getValidation(JComponent input, JInputValidatorPreferences settings) {
+                count.incrementAndGet();
+                return new Validation(Type.INFORMATION, ((JTextComponent) input).getText(), settings);
+            }
+        };
+        assertEquals(0, v.getDebounceDelay());
+        v.setDebounceDelay(200);
+        assertEquals(200, v.getDebounceDelay());
+        for (int i = 0; i < 20; i++) {
+            c.setText(Integer.toString(i));
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> count.get() > 0);
+        Thread.sleep(400);
+        SwingUtilities.invokeAndWait(() -> {
+            // flush event queue
+        });
+        assertEquals(1, count.get());
+        assertEquals("19", v.getValidation().getMessage());
+    }
+
+    @Test
+    void testDebounceChangesFromManyThreads() throws Exception {
+        JTextField c = new JTextField();
+        AtomicBoolean offEventDispatchThread = new AtomicBoolean(false);
+        JInputValidator v = new JInputValidator(c) {
+            @Override
+            protected Validation getValidation(JComponent input, JInputValidatorPreferences settings) {
+                if (!SwingUtilities.isEventDispatchThread()) {
+                    offEventDispatchThread.set(true);
+                }
+                return new Validation(Type.INFORMATION, Integer.toString(((JTextComponent) input).getDocument().getLength()), settings);
+            }
+        };
+        v.setDebounceDelay(50);
+        Thread[] writers = new Thread[4];
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    try {
+                        c.getDocument().insertString(0, "a", null);
+                    } catch (javax.swing.text.BadLocationException ex) {
+                        throw new AssertionError(ex);
+                    }
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> "400".equals(v.getValidation().getMessage()));
+        assertFalse(offEventDispatchThread.get(), "validated off the Event Dispatch Thread");
+    }
+
+    @Test
+    void testDebounceBurst() throws Exception {
+        JTextField c = new JTextField();
+        AtomicInteger count = new AtomicInteger();
+        JInputValidator v = new JInputValidator(c) {
+            @Override
+            protected Validation getValidation(JComponent input, JInputValidatorPreferences settings) {
+                count.incrementAndGet();
+                return new Validation(Type.INFORMATION, ((JTextComponent) input).getText(), settings);
+            }
+        };
+        assertEquals(0, v.getDebounceBurst());
+        v.setDebounceBurst(200);
+        assertEquals(200, v.getDebounceBurst());
+        for (int i = 0; i < 20; i++) {
+            c.setText(Integer.toString(i));
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> "19".equals(v.getValidation().getMessage()));
+        Thread.sleep(400);
+        SwingUtilities.invokeAndWait(() -> {
+            // flush event queue
+        });
+        // first change is validated immediately, remainder once at end of burst
+        assertTrue(count.get() <= 2);
+        assertEquals("19", v.getValidation().getMessage());
+    }
 }
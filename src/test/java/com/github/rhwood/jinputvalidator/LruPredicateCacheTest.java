@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link LruPredicateCache} hit counting and entry and size limits.
+ *
+ * @author Randall Wood
+ */
+class LruPredicateCacheTest {
+
+    @Test
+    void testHitsAndMisses() {
+        AtomicInteger tests = new AtomicInteger();
+        PurePredicate<String> predicate = t -> {
+            tests.incrementAndGet();
+            return t.startsWith("a");
+        };
+        LruPredicateCache cache = new LruPredicateCache(10, 100);
+        assertTrue(cache.test(predicate, "abc"));
+        assertFalse(cache.test(predicate, "bcd"));
+        assertTrue(cache.test(predicate, "abc"));
+        assertFalse(cache.test(predicate, "bcd"));
+        assertEquals(2, tests.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+        assertEquals(6, cache.getCharacterCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getCharacterCount());
+        assertTrue(cache.test(predicate, "abc"));
+        assertEquals(3, tests.get());
+    }
+
+    @Test
+    void testEntryLimit() {
+        LruPredicateCache cache = new LruPredicateCache(2, 100);
+        PurePredicate<String> predicate = t -> true;
+        cache.test(predicate, "a");
+        cache.test(predicate, "b");
+        // use "a" so "b" is least recently used
+        cache.test(predicate, "a");
+        cache.test(predicate, "c");
+        assertEquals(2, cache.size());
+        long misses = cache.getMissCount();
+        cache.test(predicate, "a");
+        assertEquals(misses, cache.getMissCount());
+        cache.test(predicate, "b");
+        assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    void testCharacterLimit() {
+        LruPredicateCache cache = new LruPredicateCache(100, 5);
+        PurePredicate<String> predicate = t -> true;
+        cache.test(predicate, "abc");
+        cache.test(predicate, "def");
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getCharacterCount());
+        // too long to cache
+        cache.test(predicate, "abcdefg");
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getCharacterCount());
+    }
+
+    @Test
+    void testPurePredicateOf() {
+        PurePredicate<String> pure = PurePredicate.of((String t) -> t.isEmpty());
+        assertTrue(pure.test(""));
+        assertFalse(pure.test("a"));
+        assertSame(pure, PurePredicate.of(pure));
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -99,6 +100,55 @@ class PredicateValidatorTest {
         Validation invalid = new Validation(Type.DANGER, "");
         PredicateValidator v = new PredicateValidator(c, (String t) -> t.equals("test1"), invalid);
         assertTrue(v.verify(c));
-        assertEquals(new Validation(Type.NONE, ""), v.getValidation());
+        assertEquals(new Validation(Type.NONE, null), v.getValidation());
+    }
+
+    @Test
+    void testCache() {
+        JTextField c = new JTextField();
+        AtomicInteger tests = new AtomicInteger();
+        PredicateValidator v = new PredicateValidator(c, PurePredicate.of((String t) -> {
+            tests.incrementAndGet();
+            return t.equals("test1");
+        }), new Validation(Type.DANGER, ""), false, true);
+        assertNull(v.getCache());
+        LruPredicateCache cache = new LruPredicateCache(10, 100);
+        v.setCache(cache);
+        assertSame(cache, v.getCache());
+        c.setText("test1");
+        assertTrue(v.verify(c));
+        c.setText("test2");
+        assertFalse(v.verify(c));
+        c.setText("test1");
+        assertTrue(v.verify(c));
+        assertEquals(2, tests.get());
+        assertEquals(1, cache.getHitCount());
+        v.setCache(null);
+        assertNull(v.getCache());
+        assertTrue(v.verify(c));
+        assertEquals(3, tests.get());
+    }
+
+    @Test
+    void testCacheRequiresPurePredicate() {
+        JTextField c = new JTextField();
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.equals("test1"),
+                new Validation(Type.DANGER, ""));
+        assertThrows(IllegalStateException.class, () -> v.setCache(new LruPredicateCache(10, 100)));
+        assertNull(v.getCache());
+    }
+
+    @Test
+    void testVerifyAllocatesOnlyText() {
+        JTextField c = new JTextField("abc");
+        PredicateValidator v = new PredicateValidator(c, (String t) -> t.startsWith("a"),
+                new Validation(Type.DANGER, "a"), new Validation(Type.SUCCESS, "b"), false, true,
+                JInputValidatorPreferences.getPreferences());
+        int calls = 10_000;
+        long text = Allocations.measure(c::getText, calls);
+        long allocated = Allocations.measure(() -> v.verify(c), calls);
+        // allow for allocation by the measurement itself
+        assertTrue(allocated < text + calls, "allocated " + allocated + " bytes in " + calls
+                + " calls, copying the text allocates " + text);
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import com.github.rhwood.jinputvalidator.rule.Rule;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+import com.github.rhwood.jinputvalidator.rule.Severity;
+import javax.swing.JLabel;
+import javax.swing.JTextField;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link RuleValidator} applying a rule to the text of a component.
+ *
+ * @author Randall Wood
+ */
+class RuleValidatorTest {
+
+    @Test
+    void testGetValidation() {
+        JTextField c = new JTextField();
+        c.setToolTipText("1");
+        Rule<CharSequence> rule = Rule.of((CharSequence t) -> t.length() < 3,
+                new RuleResult(Severity.DANGER, "too long"));
+        RuleValidator v = new RuleValidator(c, rule);
+        assertSame(rule, v.getRule());
+        c.setText("ab");
+        assertTrue(v.verify(c));
+        assertEquals(new Validation(Type.NONE, "1"), v.getValidation());
+        c.setText("abc");
+        assertFalse(v.verify(c));
+        assertEquals(new Validation(Type.DANGER, "too long"), v.getValidation());
+        assertEquals("too long", c.getToolTipText());
+    }
+
+    @Test
+    void testGetValidationTask() {
+        JTextField c = new JTextField();
+        RuleValidator v = new RuleValidator(c, (String t) -> new RuleResult(Severity.INFORMATION, t),
+                false, true);
+        c.setText("abc");
+        java.util.function.Supplier<Validation> task = v.getValidationTask();
+        c.setText("def");
+        assertEquals(new Validation(Type.INFORMATION, "abc"), task.get());
+    }
+
+    @Test
+    void testNonTextComponentValidation() {
+        JLabel c = new JLabel();
+        RuleValidator v = new RuleValidator(c, (String t) -> new RuleResult(Severity.DANGER, ""));
+        assertTrue(v.verify(c));
+        assertEquals(Type.NONE, v.getValidation().getType());
+    }
+}
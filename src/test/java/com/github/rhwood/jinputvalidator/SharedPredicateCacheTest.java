@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javax.swing.JTextField;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SharedPredicateCache} sharing results by rule id and input.
+ *
+ * @author Randall Wood
+ */
+class SharedPredicateCacheTest {
+
+    @Test
+    void testGetDefault() {
+        assertSame(SharedPredicateCache.getDefault(), SharedPredicateCache.getDefault());
+    }
+
+    @Test
+    void testKeyedOnPredicate() {
+        SharedPredicateCache cache = new SharedPredicateCache(100, 100_000);
+        PurePredicate<String> isA = t -> t.equals("a");
+        PurePredicate<String> isB = t -> t.equals("b");
+        assertTrue(cache.test(isA, "a"));
+        assertFalse(cache.test(isB, "a"));
+        assertTrue(cache.test(isA, "a"));
+        assertFalse(cache.test(isB, "a"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+        assertEquals(2L * (SharedPredicateCache.ENTRY_OVERHEAD + 2), cache.getEstimatedBytes());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEstimatedBytes());
+    }
+
+    @Test
+    void testKeyedOnRuleId() {
+        SharedPredicateCache cache = new SharedPredicateCache(100, 100_000);
+        AtomicInteger tests = new AtomicInteger();
+        Predicate<String> isA = t -> tests.incrementAndGet() > 0 && t.equals("a");
+        assertTrue(cache.test(PurePredicate.of(isA), "a"));
+        assertTrue(cache.test(PurePredicate.of(isA), "a"));
+        assertTrue(cache.test(PurePredicate.of("isA", isA), "a"));
+        assertTrue(cache.test(PurePredicate.of(new String("isA"), isA), "a"));
+        assertEquals(2, tests.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testCollectedRuleIdRemoved() {
+        SharedPredicateCache cache = new SharedPredicateCache(100, 100_000);
+        assertTrue(cache.test(PurePredicate.of(new Object(), t -> true), "a"));
+        assertEquals(1, cache.size());
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            System.gc();
+            cache.test(PurePredicate.of("other", t -> true), "b");
+            return cache.size() == 1 && cache.getEvictionCount() == 1;
+        });
+        assertEquals(SharedPredicateCache.ENTRY_OVERHEAD + 2, cache.getEstimatedBytes());
+    }
+
+    @Test
+    void testSharedAcrossValidators() {
+        SharedPredicateCache cache = new SharedPredicateCache(100, 100_000);
+        AtomicInteger tests = new AtomicInteger();
+        PurePredicate<String> sku = t -> {
+            tests.incrementAndGet();
+            return t.matches("[A-Z]{3}-\\d{4}");
+        };
+        JTextField c1 = new JTextField();
+        JTextField c2 = new JTextField();
+        PredicateValidator v1 = new PredicateValidator(c1, sku, new Validation(Type.DANGER, ""), false, true);
+        PredicateValidator v2 = new PredicateValidator(c2, sku, new Validation(Type.DANGER, ""), false, true);
+        v1.setCache(cache);
+        v2.setCache(cache);
+        c1.setText("ABC-1234");
+        c2.setText("ABC-1234");
+        assertTrue(v1.verify(c1));
+        assertTrue(v2.verify(c2));
+        assertEquals(1, tests.get());
+    }
+
+    @Test
+    void testEviction() {
+        long perEntry = SharedPredicateCache.ENTRY_OVERHEAD + 2;
+        SharedPredicateCache cache = new SharedPredicateCache(100, perEntry * 3);
+        PurePredicate<String> predicate = t -> true;
+        cache.test(predicate, "a");
+        cache.test(predicate, "b");
+        cache.test(predicate, "c");
+        // reference "a" so it gets a second chance
+        cache.test(predicate, "a");
+        cache.test(predicate, "d");
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.getEstimatedBytes() <= perEntry * 3);
+        long misses = cache.getMissCount();
+        cache.test(predicate, "a");
+        assertEquals(misses, cache.getMissCount());
+        cache.test(predicate, "b");
+        assertEquals(misses + 1, cache.getMissCount());
+        cache = new SharedPredicateCache(2, perEntry * 100);
+        for (int i = 0; i < 10; i++) {
+            cache.test(predicate, Integer.toString(i));
+        }
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testConcurrentUse() {
+        SharedPredicateCache cache = new SharedPredicateCache(50, 100_000);
+        PurePredicate<String> predicate = t -> Integer.parseInt(t) % 2 == 0;
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            String input = Integer.toString(i % 200);
+            assertEquals(i % 2 == 0, cache.test(predicate, input));
+        });
+        assertTrue(cache.size() <= 50 + Runtime.getRuntime().availableProcessors());
+        assertEquals(10_000, cache.getHitCount() + cache.getMissCount());
+    }
+}
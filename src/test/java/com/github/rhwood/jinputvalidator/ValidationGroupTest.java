@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import com.github.rhwood.jinputvalidator.ValidationGroup.Summary;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.InputVerifier;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JTextField;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the aggregate state and parallel validation of a
+ * {@link ValidationGroup}.
+ *
+ * @author Randall Wood
+ */
+class ValidationGroupTest {
+
+    private PredicateValidator createValidator(JTextField c, Type invalid) {
+        return new PredicateValidator(c, (String t) -> !t.isEmpty(), new Validation(invalid, "empty"),
+                new Validation(Type.SUCCESS, "ok"), false, true, JInputValidatorPreferences.getPreferences());
+    }
+
+    @Test
+    void testCounts() {
+        ValidationGroup group = new ValidationGroup();
+        assertEquals(Type.NONE, group.getWorstType());
+        assertTrue(group.isValid());
+        JTextField c1 = new JTextField();
+        JTextField c2 = new JTextField();
+        PredicateValidator v1 = createValidator(c1, Type.WARNING);
+        PredicateValidator v2 = createValidator(c2, Type.DANGER);
+        group.add(v1);
+        group.add(v2);
+        group.add(v1);
+        assertEquals(2, group.size());
+        assertEquals(2, group.getCount(Type.NONE));
+        assertEquals(2, group.getValidators().size());
+        v1.verify(c1);
+        assertEquals(1, group.getCount(Type.WARNING));
+        assertEquals(Type.WARNING, group.getWorstType());
+        assertFalse(group.isValid());
+        v2.verify(c2);
+        assertEquals(Type.DANGER, group.getWorstType());
+        c1.setText("a");
+        v1.verify(c1);
+        assertEquals(0, group.getCount(Type.WARNING));
+        assertEquals(1, group.getCount(Type.SUCCESS));
+        assertEquals(Type.DANGER, group.getWorstType());
+        c2.setText("a");
+        v2.verify(c2);
+        assertEquals(2, group.getCount(Type.SUCCESS));
+        assertEquals(Type.SUCCESS, group.getWorstType());
+        assertTrue(group.isValid());
+        group.remove(v2);
+        assertEquals(1, group.size());
+        assertEquals(1, group.getCount(Type.SUCCESS));
+        // removed validators no longer affect the group
+        c2.setText("");
+        v2.verify(c2);
+        assertEquals(Type.SUCCESS, group.getWorstType());
+        group.remove(v1);
+        assertEquals(Type.NONE, group.getWorstType());
+    }
+
+    @Test
+    void testSeverityRanking() {
+        ValidationGroup group = new ValidationGroup();
+        JTextField c1 = new JTextField("a");
+        JTextField c2 = new JTextField();
+        JTextField c3 = new JTextField();
+        PredicateValidator v1 = createValidator(c1, Type.DANGER);
+        PredicateValidator v2 = createValidator(c2, Type.INFORMATION);
+        PredicateValidator v3 = createValidator(c3, Type.UNKNOWN);
+        group.add(v1);
+        v1.verify(c1);
+        assertEquals(Type.SUCCESS, group.getWorstType());
+        group.add(v2);
+        v2.verify(c2);
+        assertEquals(Type.INFORMATION, group.getWorstType());
+        group.add(v3);
+        v3.verify(c3);
+        assertEquals(Type.UNKNOWN, group.getWorstType());
+        assertTrue(group.isValid());
+        group.remove(v3);
+        assertEquals(Type.INFORMATION, group.getWorstType());
+        group.remove(v2);
+        assertEquals(Type.SUCCESS, group.getWorstType());
+    }
+
+    @Test
+    void testPropertyChangeEvents() {
+        ValidationGroup group = new ValidationGroup();
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        PropertyChangeListener listener = events::add;
+        group.addPropertyChangeListener(listener);
+        JTextField c = new JTextField();
+        PredicateValidator v = createValidator(c, Type.DANGER);
+        group.add(v);
+        assertEquals(1, events.size());
+        assertEquals("summary", events.get(0).getPropertyName());
+        assertEquals(0, ((Summary) events.get(0).getOldValue()).size());
+        assertEquals(1, ((Summary) events.get(0).getNewValue()).getCount(Type.NONE));
+        events.clear();
+        v.verify(c);
+        assertEquals(1, events.size());
+        Summary summary = (Summary) events.get(0).getNewValue();
+        assertEquals(Type.DANGER, summary.getWorstType());
+        assertFalse(summary.isValid());
+        assertSame(group.getSummary(), summary);
+        assertEquals(Type.DANGER, group.getWorstType());
+        assertFalse(group.isValid());
+        events.clear();
+        c.setText("a");
+        v.verify(c);
+        assertEquals(1, events.size());
+        assertEquals(Type.DANGER, ((Summary) events.get(0).getOldValue()).getWorstType());
+        assertTrue(((Summary) events.get(0).getNewValue()).isValid());
+        events.clear();
+        List<PropertyChangeEvent> summaryEvents = new ArrayList<>();
+        PropertyChangeListener summaryListener = summaryEvents::add;
+        group.addPropertyChangeListener("summary", summaryListener);
+        group.removePropertyChangeListener(listener);
+        c.setText("");
+        v.verify(c);
+        assertEquals(0, events.size());
+        assertEquals(1, summaryEvents.size());
+        group.removePropertyChangeListener("summary", summaryListener);
+        c.setText("a");
+        v.verify(c);
+        assertEquals(1, summaryEvents.size());
+    }
+
+    @Test
+    void testValidateAll() throws Exception {
+        ValidationGroup group = new ValidationGroup();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        JTextField[] fields = new JTextField[20];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new JTextField(i % 5 == 0 ? "" : "text");
+            group.add(new PredicateValidator(fields[i], (String t) -> {
+                threads.add(Thread.currentThread().getName());
+                return !t.isEmpty();
+            }, new Validation(Type.WARNING, "empty"), false, true));
+        }
+        JLabel label = new JLabel();
+        group.add(new VerifyingValidator(label, new InputVerifier() {
+            @Override
+            public boolean verify(JComponent input) {
+                return false;
+            }
+        }, new Validation(Type.DANGER, "danger"), false, true));
+        assertEquals(Type.NONE, group.getWorstType());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Summary summary = group.validateAll(pool).get(10, TimeUnit.SECONDS);
+            assertEquals(Type.DANGER, summary.getWorstType());
+            assertFalse(summary.isValid());
+            assertEquals(21, summary.size());
+            assertEquals(4, summary.getCount(Type.WARNING));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(4, group.getCount(Type.WARNING));
+        assertEquals(1, group.getCount(Type.DANGER));
+        assertEquals(16, group.getCount(Type.NONE));
+        assertFalse(threads.isEmpty());
+        assertTrue(threads.stream().noneMatch(name -> name.startsWith("AWT-EventQueue")));
+        assertEquals("empty", fields[0].getToolTipText());
+        assertEquals("danger", label.getToolTipText());
+    }
+}
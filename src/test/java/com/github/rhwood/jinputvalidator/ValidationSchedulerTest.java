@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JComponent;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of scheduling and batched delivery of changes by
+ * {@link ValidationScheduler}.
+ *
+ * @author Randall Wood
+ */
+class ValidationSchedulerTest {
+
+    @Test
+    void testGetScheduler() {
+        assertNotNull(ValidationScheduler.getScheduler());
+        assertSame(ValidationScheduler.getScheduler(), ValidationScheduler.getScheduler());
+    }
+
+    @Test
+    void testSchedule() throws Exception {
+        ValidationScheduler scheduler = ValidationScheduler.getScheduler();
+        AtomicInteger count = new AtomicInteger();
+        JTextField[] fields = new JTextField[2];
+        JInputValidator[] validators = new JInputValidator[2];
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = new JTextField();
+                validators[i] = new JInputValidator(fields[i]) {
+                    @Override
+                    protected Validation getValidation(JComponent input, JInputValidatorPreferences settings) {
+                        count.incrementAndGet();
+                        return new Validation(Type.NONE, "", settings);
+                    }
+                };
+            }
+        });
+        long requests = scheduler.getRequestCount();
+        long validations = scheduler.getValidationCount();
+        long coalesced = scheduler.getCoalescedCount();
+        long cycles = scheduler.getCycleCount();
+        SwingUtilities.invokeAndWait(() -> {
+            // multiple changes to multiple fields in a single cycle
+            for (int i = 0; i < 5; i++) {
+                fields[0].setText(Integer.toString(i));
+                fields[1].setText(Integer.toString(i));
+            }
+        });
+        SwingUtilities.invokeAndWait(() -> {
+            // flush scheduled validations
+        });
+        assertEquals(2, count.get());
+        // each setText is a remove and an insert except the first
+        assertEquals(requests + 18, scheduler.getRequestCount());
+        assertEquals(validations + 2, scheduler.getValidationCount());
+        assertEquals(coalesced + 16, scheduler.getCoalescedCount());
+        assertEquals(cycles + 1, scheduler.getCycleCount());
+    }
+
+    @Test
+    void testBatchValidationListener() throws Exception {
+        ValidationScheduler scheduler = ValidationScheduler.getScheduler();
+        List<String> batches = new ArrayList<>();
+        BatchValidationListener listener = changes -> {
+            StringBuilder batch = new StringBuilder();
+            for (int i = 0; i < changes.size(); i++) {
+                batch.append(changes.getValidator(i).getComponent().getName())
+                        .append(':').append(changes.getOldType(i))
+                        .append('>').append(changes.getNewType(i)).append(' ');
+            }
+            batches.add(batch.toString().trim());
+        };
+        JTextField[] fields = new JTextField[2];
+        PredicateValidator[] validators = new PredicateValidator[2];
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = new JTextField();
+                fields[i].setName("f" + i);
+                validators[i] = new PredicateValidator(fields[i], (String t) -> t.isEmpty(),
+                        new Validation(Type.DANGER, "danger"));
+            }
+        });
+        scheduler.addBatchValidationListener(listener);
+        try {
+            assertArrayEquals(new BatchValidationListener[]{listener}, scheduler.getBatchValidationListeners());
+            SwingUtilities.invokeAndWait(() -> {
+                fields[0].setText("a");
+                fields[1].setText("b");
+            });
+            SwingUtilities.invokeAndWait(() -> {
+                // flush scheduled validations
+            });
+            assertEquals(1, batches.size(), "one batch per cycle");
+            assertEquals("f0:NONE>DANGER f1:NONE>DANGER", batches.get(0));
+            batches.clear();
+            List<String> delivered = new ArrayList<>();
+            SwingUtilities.invokeAndWait(() -> {
+                fields[0].setText("");
+                // validation outside a scheduler cycle is delivered immediately
+                validators[0].verify(fields[0]);
+                delivered.addAll(batches);
+            });
+            SwingUtilities.invokeAndWait(() -> {
+                // flush scheduled validations
+            });
+            assertEquals(1, delivered.size());
+            assertEquals("f0:DANGER>NONE", delivered.get(0));
+            assertEquals(1, batches.size(), "no change in scheduler cycle");
+        } finally {
+            scheduler.removeBatchValidationListener(listener);
+        }
+        assertEquals(0, scheduler.getBatchValidationListeners().length);
+    }
+}
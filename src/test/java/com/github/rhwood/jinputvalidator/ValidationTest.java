@@ -1,7 +1,18 @@
 package com.github.rhwood.jinputvalidator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import com.github.rhwood.jinputvalidator.rule.RuleResult;
+import com.github.rhwood.jinputvalidator.rule.Severity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,4 +35,95 @@ class ValidationTest {
         assertEquals(validation, new Validation(null, "foo"));
         assertNotEquals(validation, new Validation(null, "bar"));
     }
+
+    @Test
+    void testEqualsHashCollision() {
+        // "Aa" and "BB" have the same hash code
+        assertEquals(new Validation(Type.DANGER, "Aa").hashCode(), new Validation(Type.DANGER, "BB").hashCode());
+        assertNotEquals(new Validation(Type.DANGER, "Aa"), new Validation(Type.DANGER, "BB"));
+        assertNotEquals(new Validation(Type.NONE, null), new Validation(Type.NONE, ""));
+    }
+
+    @Test
+    void testOf() {
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences();
+        Validation v1 = Validation.of(Type.WARNING, "warn", preferences);
+        assertSame(v1, Validation.of(Type.WARNING, "warn", preferences));
+        assertSame(v1, Validation.of(new RuleResult(Severity.WARNING, "warn"), preferences));
+        assertSame(v1, Validation.of(v1, preferences));
+        Validation same = new Validation(Type.WARNING, "warn", preferences);
+        assertSame(same, Validation.of(same, preferences));
+        Validation v2 = new Validation(Type.WARNING, "warn", preferences);
+        assertNotSame(v1, v2);
+        assertEquals(v1, v2);
+    }
+
+    @Test
+    void testOfDoesNotAllocate() {
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences();
+        String message = "shared";
+        Validation shared = Validation.of(Type.INFORMATION, message, preferences);
+        assertSame(shared, Validation.of(Type.INFORMATION, message, preferences));
+        assertSame(Validation.of(Type.NONE, null, preferences), Validation.of(Type.NONE, null, preferences));
+        int calls = 10_000;
+        long allocated = Allocations.measure(() -> Validation.of(Type.INFORMATION, message, preferences), calls);
+        // allow for allocation by the measurement itself
+        assertTrue(allocated < calls, "allocated " + allocated + " bytes in " + calls + " calls");
+    }
+
+    @Test
+    void testTypeSeverity() {
+        for (Type type : Type.values()) {
+            assertEquals(type.name(), type.getSeverity().name());
+            assertSame(type, Type.of(type.getSeverity()));
+        }
+        assertEquals(Type.values().length, Severity.values().length);
+        assertSame(Type.DANGER, Validation.of(new RuleResult(Severity.DANGER, "x"),
+                JInputValidatorPreferences.getPreferences()).getType());
+    }
+
+    @Test
+    void testDeferred() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> message = () -> "deferred " + calls.incrementAndGet();
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences();
+        Validation v1 = Validation.deferred(Type.DANGER, message, preferences);
+        assertFalse(v1.isMessageResolved());
+        assertEquals(Type.DANGER, v1.getType());
+        // comparing and rebinding does not create the message
+        assertEquals(v1, Validation.deferred(Type.DANGER, message, preferences));
+        assertNotEquals(v1, Validation.deferred(Type.DANGER, () -> "deferred 1", preferences));
+        assertNotEquals(v1, new Validation(Type.DANGER, "deferred 1", preferences));
+        Validation v2 = new Validation(v1, preferences);
+        assertEquals(v1, v2);
+        assertFalse(v1.isMessageResolved());
+        assertFalse(v2.isMessageResolved());
+        assertEquals(0, calls.get());
+        // message is created once
+        assertEquals("deferred 1", v1.getMessage());
+        assertEquals("deferred 1", v1.getMessage());
+        assertTrue(v1.isMessageResolved());
+        assertEquals(1, calls.get());
+        assertEquals(v1, v2);
+        // validations sharing a result share the created message
+        assertTrue(v2.isMessageResolved());
+        assertEquals("deferred 1", v2.getMessage());
+        assertEquals(1, calls.get());
+        assertTrue(new Validation(Type.DANGER, "resolved").isMessageResolved());
+    }
+
+    @Test
+    void testDeferredKey() {
+        AtomicInteger calls = new AtomicInteger();
+        Validation v1 = Validation.deferred(Type.WARNING, "length", () -> "length " + calls.incrementAndGet());
+        Validation v2 = Validation.deferred(Type.WARNING, "length", () -> "length " + calls.incrementAndGet());
+        assertEquals(v1, v2);
+        assertEquals(v1.hashCode(), v2.hashCode());
+        assertNotEquals(v1, Validation.deferred(Type.DANGER, "length", () -> "length"));
+        assertNotEquals(v1, Validation.deferred(Type.WARNING, "other", () -> "length"));
+        assertNotEquals(v1, new Validation(Type.WARNING, "length"));
+        assertEquals(0, calls.get());
+        assertEquals("length 1", v1.getMessage());
+        assertEquals(v1.getResult(), RuleResult.deferred(Severity.WARNING, "length", () -> "x"));
+    }
 }
@@ -113,4 +113,20 @@ class VerifyingValidatorTest {
         assertEquals("\uf05a", v1.getIcon());
         assertEquals(new Color(0x73BCF7), v1.getColor());
     }
+
+    @Test
+    void testVerifyDoesNotAllocate() {
+        JTextField c = new JTextField("abc");
+        VerifyingValidator v = new VerifyingValidator(c, new InputVerifier() {
+            @Override
+            public boolean verify(JComponent input) {
+                return ((JTextField) input).getDocument().getLength() == 3;
+            }
+        }, new Validation(Type.DANGER, "a"), new Validation(Type.SUCCESS, "b"), false, true,
+                JInputValidatorPreferences.getPreferences());
+        int calls = 10_000;
+        long allocated = Allocations.measure(() -> v.verify(c), calls);
+        // allow for allocation by the measurement itself
+        assertTrue(allocated < calls, "allocated " + allocated + " bytes in " + calls + " calls");
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the outlines of the validation icons drawn by
+ * {@link ValidatorBorder} from the icon font, so the icons can be drawn
+ * without loading the font. The generated outlines are committed as a
+ * resource; regenerate them after changing the font or the default icons
+ * with {@code mvn -Pgenerate-outlines process-test-classes}.
+ *
+ * @author Randall Wood
+ */
+public final class IconOutlinesGenerator {
+
+    /**
+     * The font size icons are laid out in, to avoid rounding in small sizes.
+     */
+    private static final float REFERENCE_SIZE = 1000f;
+    /**
+     * The context to lay out icons in: no transform, antialiased, with
+     * fractional metrics.
+     */
+    private static final FontRenderContext CONTEXT = new FontRenderContext(null, true, true);
+    /**
+     * The maximum number of coordinates in a path segment.
+     */
+    private static final int MAX_COORDINATES = 6;
+
+    private IconOutlinesGenerator() {
+    }
+
+    /**
+     * Generate icon outlines.
+     *
+     * @param args the resource path of the font, the file to write, and the
+     *             comma separated hexadecimal code points of the icons
+     * @throws IOException         if unable to read the font or write the
+     *                             outlines
+     * @throws FontFormatException if the font is not valid
+     */
+    public static void main(String[] args) throws IOException, FontFormatException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: IconOutlinesGenerator font output icons");
+        }
+        Font font;
+        try (InputStream stream = IconOutlinesGenerator.class.getResourceAsStream(args[0])) {
+            if (stream == null) {
+                throw new IOException("Font " + args[0] + " not found");
+            }
+            font = Font.createFont(Font.TRUETYPE_FONT, stream);
+        }
+        List<String> icons = new ArrayList<>();
+        for (String icon : args[2].split(",")) {
+            icons.add(new String(Character.toChars(Integer.parseInt(icon.trim(), 16))));
+        }
+        Path output = Paths.get(args[1]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream stream = Files.newOutputStream(output)) {
+            write(font, args[0], icons, stream);
+        }
+        System.out.printf("Wrote %d icon outlines (%d bytes) to %s%n", icons.size(), Files.size(output), output);
+    }
+
+    /**
+     * Write the outlines of icons in a font. The icons are drawn in the bold
+     * style as by {@link ValidatorBorder}.
+     *
+     * @param font   the font
+     * @param path   the path the font is loaded from
+     * @param icons  the icons to write
+     * @param stream the stream to write to
+     * @throws IOException if unable to write
+     */
+    static void write(Font font, String path, List<String> icons, OutputStream stream) throws IOException {
+        Font bold = font.deriveFont(Font.BOLD, REFERENCE_SIZE);
+        AffineTransform scale = AffineTransform.getScaleInstance(1 / REFERENCE_SIZE, 1 / REFERENCE_SIZE);
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(IconOutlines.VERSION);
+        out.writeUTF(path);
+        out.writeInt(icons.size());
+        float[] coordinates = new float[MAX_COORDINATES];
+        for (String icon : icons) {
+            GlyphVector glyphs = bold.createGlyphVector(CONTEXT, icon);
+            out.writeUTF(icon);
+            out.writeFloat((float) glyphs.getLogicalBounds().getWidth() / REFERENCE_SIZE);
+            out.writeFloat(bold.getLineMetrics(icon, CONTEXT).getAscent() / REFERENCE_SIZE);
+            PathIterator segments = glyphs.getOutline().getPathIterator(scale);
+            out.writeByte(segments.getWindingRule());
+            while (!segments.isDone()) {
+                int type = segments.currentSegment(coordinates);
+                out.writeByte(type);
+                for (int i = 0; i < IconOutlines.getCoordinateCount(type); i++) {
+                    out.writeFloat(coordinates[i]);
+                }
+                segments.next();
+            }
+            out.writeByte(IconOutlines.END);
+        }
+        out.flush();
+    }
+}
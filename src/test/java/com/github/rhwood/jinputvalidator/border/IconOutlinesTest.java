@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.JInputValidatorPreferences;
+import java.awt.Font;
+import java.awt.Rectangle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the generated {@link IconOutlines} match the icon font and are
+ * current.
+ *
+ * @author Randall Wood
+ */
+class IconOutlinesTest {
+
+    private static final List<String> ICONS = Arrays.asList("\uf06a", "\uf05a", "\uf058", "\uf059", "\uf071");
+
+    @Test
+    void testOutlinesMatchFont() throws IOException {
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences();
+        Font font = preferences.getFont();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IconOutlinesGenerator.write(font, preferences.getFontPath(), ICONS, out);
+        // a small fraction of the font
+        assertTrue(out.size() < 16 * 1024, "outlines are " + out.size() + " bytes");
+        IconOutlines outlines = IconOutlines.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(ICONS.size(), outlines.size());
+        for (int size : new int[]{12, 13, 24}) {
+            Font bold = font.deriveFont(Font.BOLD, size);
+            for (String icon : ICONS) {
+                IconGlyph expected = IconGlyph.get(bold, icon);
+                IconGlyph actual = outlines.getGlyph(preferences.getFontPath(), icon, size);
+                assertNotNull(actual);
+                assertEquals(expected.getWidth(), actual.getWidth(), icon);
+                assertEquals(expected.getAscent(), actual.getAscent(), icon);
+                Rectangle e = expected.getOutline().getBounds();
+                Rectangle a = actual.getOutline().getBounds();
+                assertEquals(e, a, icon);
+            }
+        }
+        // only for the font and icons the outlines are generated for
+        assertNull(outlines.getGlyph("/other.otf", ICONS.get(0), 12));
+        assertNull(outlines.getGlyph(preferences.getFontPath(), "x", 12));
+    }
+
+    @Test
+    void testDefaultOutlinesCurrent() throws IOException {
+        // the committed outlines must match outlines generated from the font
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IconOutlinesGenerator.write(preferences.getFont(), preferences.getFontPath(), ICONS, out);
+        ByteArrayOutputStream committed = new ByteArrayOutputStream();
+        try (java.io.InputStream in = IconOutlines.class.getResourceAsStream(IconOutlines.RESOURCE)) {
+            assertNotNull(in, "outlines resource included");
+            byte[] buffer = new byte[4096];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                committed.write(buffer, 0, n);
+            }
+        }
+        assertArrayEquals(out.toByteArray(), committed.toByteArray(),
+                "regenerate with mvn -Pgenerate-outlines process-test-classes");
+        assertEquals(ICONS.size(), IconOutlines.getDefault().size());
+    }
+
+    @Test
+    void testReadInvalid() {
+        assertThrows(IOException.class, () -> IconOutlines.read(new ByteArrayInputStream(new byte[]{0, 0, 0, 2})));
+    }
+}
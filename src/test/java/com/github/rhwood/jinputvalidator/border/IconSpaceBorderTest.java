@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.JInputValidatorPreferences;
+import com.github.rhwood.jinputvalidator.Validation;
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.awt.Insets;
+import java.awt.image.BufferedImage;
+import javax.swing.JTextField;
+import javax.swing.border.Border;
+import javax.swing.border.EmptyBorder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link IconSpaceBorder} keeping constant insets and painting the
+ * validation icon.
+ *
+ * @author Randall Wood
+ */
+class IconSpaceBorderTest {
+
+    @Test
+    void testInsetsConstant() {
+        JInputValidatorPreferences preferences = JInputValidatorPreferences.getPreferences();
+        JTextField c = new JTextField();
+        Border original = new EmptyBorder(1, 2, 3, 4);
+        IconSpaceBorder border = new IconSpaceBorder(original, preferences);
+        Insets none = border.getBorderInsets(c);
+        assertEquals(new Insets(1, 2, 3, none.right), none);
+        int widest = 0;
+        for (Type type : Type.values()) {
+            if (type != Type.NONE) {
+                Validation validation = Validation.of(type, "message", preferences);
+                Insets icon = ValidatorBorder.getBorder(validation, original, c.getFont().getSize())
+                        .getBorderInsets(c);
+                widest = Math.max(widest, icon.right);
+                border.setValidation(validation);
+                assertSame(validation, border.getValidation());
+                assertEquals(none, border.getBorderInsets(c));
+            }
+        }
+        assertEquals(widest, none.right);
+        assertTrue(none.right > 4);
+    }
+
+    @Test
+    void testPaintBorder() {
+        JTextField c = new JTextField();
+        c.setSize(200, 30);
+        IconSpaceBorder border = new IconSpaceBorder(new EmptyBorder(1, 1, 1, 1),
+                JInputValidatorPreferences.getPreferences());
+        BufferedImage image = new BufferedImage(200, 30, BufferedImage.TYPE_INT_ARGB);
+        border.paintBorder(c, image.createGraphics(), 0, 0, 200, 30);
+        assertEquals(0, countPainted(image));
+        border.setValidation(new Validation(Type.DANGER, "danger"));
+        border.paintBorder(c, image.createGraphics(), 0, 0, 200, 30);
+        assertTrue(countPainted(image) > 0);
+        // the icon is within the reserved space
+        int right = border.getBorderInsets(c).right;
+        for (int x = 0; x < 200 - right; x++) {
+            for (int y = 0; y < 30; y++) {
+                assertEquals(0, image.getRGB(x, y), "painted at " + x + "," + y);
+            }
+        }
+    }
+
+    private static int countPainted(BufferedImage image) {
+        int count = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
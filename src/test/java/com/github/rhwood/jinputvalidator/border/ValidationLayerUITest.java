@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.PredicateValidator;
+import com.github.rhwood.jinputvalidator.Validation;
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferedImage;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.JComponent;
+import javax.swing.JLayer;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTextField;
+import javax.swing.border.Border;
+import static org.awaitility.Awaitility.await;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ValidationLayerUI} painting validation icons over a
+ * component.
+ *
+ * @author Randall Wood
+ */
+class ValidationLayerUITest {
+
+    private ValidationLayerUI ui;
+    private JLayer<JComponent> layer;
+    private JTextField[] fields;
+    private PredicateValidator[] validators;
+    private AtomicBoolean[] valids;
+
+    @BeforeEach
+    void setUp() {
+        ui = new ValidationLayerUI();
+        JPanel panel = new JPanel(null);
+        fields = new JTextField[3];
+        validators = new PredicateValidator[fields.length];
+        valids = new AtomicBoolean[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new JTextField();
+            fields[i].setBounds(10, 10 + 40 * i, 200, 30);
+            panel.add(fields[i]);
+            // validate without changing the text, so only icons change
+            AtomicBoolean valid = new AtomicBoolean(true);
+            valids[i] = valid;
+            validators[i] = new PredicateValidator(fields[i], (String t) -> valid.get(),
+                    new Validation(Type.DANGER, "bad"));
+            validators[i].setOverlay(ui);
+        }
+        layer = new JLayer<>(panel, ui);
+        layer.setSize(300, 200);
+        layer.doLayout();
+    }
+
+    @Test
+    void testSetValidation() {
+        Border original = fields[0].getBorder();
+        assertSame(ui, validators[0].getOverlay());
+        assertNull(ui.getValidation(fields[0]));
+        valids[0].set(false);
+        assertFalse(validators[0].verify(fields[0]));
+        // the border is not changed
+        assertSame(original, fields[0].getBorder());
+        assertEquals("bad", fields[0].getToolTipText());
+        assertEquals(validators[0].getValidation(), ui.getValidation(fields[0]));
+        Rectangle bounds = ui.getIconBounds(fields[0]);
+        assertNotNull(bounds);
+        Rectangle field = fields[0].getBounds();
+        // allowing for antialiased edges
+        field.grow(1, 1);
+        assertTrue(field.contains(bounds), bounds.toString());
+        assertTrue(bounds.x > fields[0].getX() + fields[0].getWidth() / 2, "icon on right");
+        valids[0].set(true);
+        assertTrue(validators[0].verify(fields[0]));
+        assertNull(ui.getValidation(fields[0]));
+        assertNull(ui.getIconBounds(fields[0]));
+    }
+
+    @Test
+    void testPaint() {
+        BufferedImage valid = paint();
+        valids[0].set(false);
+        validators[0].verify(fields[0]);
+        valids[2].set(false);
+        validators[2].verify(fields[2]);
+        BufferedImage invalid = paint();
+        Rectangle first = ui.getIconBounds(fields[0]);
+        Rectangle last = ui.getIconBounds(fields[2]);
+        int changed = 0;
+        for (int x = 0; x < valid.getWidth(); x++) {
+            for (int y = 0; y < valid.getHeight(); y++) {
+                if (valid.getRGB(x, y) != invalid.getRGB(x, y)) {
+                    changed++;
+                    assertTrue(first.contains(x, y) || last.contains(x, y), "painted at " + x + "," + y);
+                }
+            }
+        }
+        assertTrue(changed > 0);
+    }
+
+    @Test
+    void testComponentMoved() {
+        valids[2].set(false);
+        validators[2].verify(fields[2]);
+        Rectangle bounds = ui.getIconBounds(fields[2]);
+        fields[2].setLocation(fields[2].getX(), fields[2].getY() + 40);
+        // the layer only listens for events when displayable
+        ui.processComponentEvent(new ComponentEvent(fields[2], ComponentEvent.COMPONENT_MOVED), layer);
+        bounds.translate(0, 40);
+        assertEquals(bounds, ui.getIconBounds(fields[2]));
+    }
+
+    @Test
+    void testRemoveOverlay() {
+        Border original = fields[1].getBorder();
+        valids[1].set(false);
+        validators[1].verify(fields[1]);
+        assertNotNull(ui.getValidation(fields[1]));
+        validators[1].setOverlay(null);
+        assertNull(validators[1].getOverlay());
+        assertNull(ui.getValidation(fields[1]));
+        assertTrue(fields[1].getBorder() instanceof ValidatorBorder);
+        validators[1].setOverlay(ui);
+        assertSame(original, fields[1].getBorder());
+        assertNotNull(ui.getValidation(fields[1]));
+    }
+
+    @Test
+    void testHiddenTab() {
+        JTabbedPane tabs = new JTabbedPane();
+        JTextField shown = new JTextField();
+        JTextField hidden = new JTextField();
+        tabs.addTab("shown", shown);
+        tabs.addTab("hidden", hidden);
+        JLayer<JComponent> tabLayer = new JLayer<>(tabs, ui);
+        tabLayer.setSize(300, 200);
+        tabLayer.doLayout();
+        tabs.doLayout();
+        Validation danger = new Validation(Type.DANGER, "bad");
+        ui.setValidation(shown, danger);
+        ui.setValidation(hidden, danger);
+        assertNotNull(ui.getIconBounds(shown));
+        assertNull(ui.getIconBounds(hidden), "not drawn for hidden tab");
+    }
+
+    @Test
+    void testScrolledOut() {
+        JPanel view = new JPanel(null);
+        view.setPreferredSize(new java.awt.Dimension(250, 1000));
+        JTextField partial = new JTextField();
+        partial.setBounds(10, 85, 200, 30);
+        JTextField scrolled = new JTextField();
+        scrolled.setBounds(10, 500, 200, 30);
+        view.add(partial);
+        view.add(scrolled);
+        JScrollPane scroll = new JScrollPane(view);
+        JLayer<JComponent> scrollLayer = new JLayer<>(scroll, ui);
+        scrollLayer.setSize(300, 100);
+        scrollLayer.doLayout();
+        scroll.doLayout();
+        scroll.getViewport().doLayout();
+        Validation danger = new Validation(Type.DANGER, "bad");
+        ui.setValidation(partial, danger);
+        ui.setValidation(scrolled, danger);
+        assertNull(ui.getIconBounds(scrolled), "not drawn when scrolled out");
+        Rectangle bounds = ui.getIconBounds(partial);
+        assertNotNull(bounds, "drawn when partially visible");
+        Rectangle viewport = javax.swing.SwingUtilities.convertRectangle(
+                scroll.getViewport(), new Rectangle(scroll.getViewport().getSize()), scrollLayer);
+        assertTrue(viewport.contains(bounds), "clipped to viewport");
+        assertTrue(bounds.y + bounds.height == viewport.y + viewport.height, "clipped at bottom " + bounds + viewport);
+    }
+
+    @Test
+    void testComponentHeldWeakly() {
+        JTextField field = new JTextField();
+        ui.setValidation(field, new Validation(Type.DANGER, "bad"));
+        WeakReference<JTextField> reference = new WeakReference<>(field);
+        field = null;
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            System.gc();
+            return reference.get() == null;
+        });
+    }
+
+    private BufferedImage paint() {
+        BufferedImage image = new BufferedImage(layer.getWidth(), layer.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            layer.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.border;
+
+import com.github.rhwood.jinputvalidator.Validation;
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import javax.swing.JTextField;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import javax.swing.border.Border;
+import javax.swing.border.EmptyBorder;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ValidatorBorder} painting and caching borders.
+ *
+ * @author Randall Wood
+ */
+class ValidatorBorderTest {
+
+    @BeforeEach
+    public void setUp() {
+        ValidatorBorder.clearCache();
+    }
+
+    @Test
+    void testGetBorder() {
+        Border original = new EmptyBorder(1, 1, 1, 1);
+        ValidatorBorder warning = ValidatorBorder.getBorder(new Validation(Type.WARNING, "a"), original, 12);
+        // message is not part of the border
+        assertSame(warning, ValidatorBorder.getBorder(new Validation(Type.WARNING, "b"), original, 12));
+        assertNotSame(warning, ValidatorBorder.getBorder(new Validation(Type.DANGER, "a"), original, 12));
+        assertNotSame(warning, ValidatorBorder.getBorder(new Validation(Type.WARNING, "a"), original, 14));
+        assertNotSame(warning, ValidatorBorder.getBorder(new Validation(Type.WARNING, "a"),
+                new EmptyBorder(1, 1, 1, 1), 12));
+        assertEquals(4, ValidatorBorder.getCacheSize());
+        ValidatorBorder.clearCache();
+        assertEquals(0, ValidatorBorder.getCacheSize());
+        assertNotSame(warning, ValidatorBorder.getBorder(new Validation(Type.WARNING, "a"), original, 12));
+    }
+
+    @Test
+    void testLookAndFeelChangeClearsCache() throws UnsupportedLookAndFeelException {
+        ValidatorBorder.getBorder(new Validation(Type.WARNING, "a"), null, 12);
+        assertEquals(1, ValidatorBorder.getCacheSize());
+        LookAndFeel laf = UIManager.getLookAndFeel();
+        try {
+            UIManager.setLookAndFeel(new MetalLookAndFeel());
+            assertEquals(0, ValidatorBorder.getCacheSize());
+        } finally {
+            UIManager.setLookAndFeel(laf);
+        }
+    }
+
+    @Test
+    void testIconGlyphShared() {
+        Font font = new Validation(Type.WARNING, "").getFont().deriveFont(Font.BOLD, 12);
+        IconGlyph glyph = IconGlyph.get(font, "\uf071");
+        assertSame(glyph, IconGlyph.get(font.deriveFont(Font.BOLD, 12), "\uf071"));
+        assertNotSame(glyph, IconGlyph.get(font.deriveFont(Font.BOLD, 24), "\uf071"));
+        assertTrue(glyph.getWidth() > 0);
+        assertTrue(glyph.getAscent() > 0);
+        assertFalse(glyph.getOutline().getBounds().isEmpty());
+    }
+
+    @Test
+    void testPaintBorder() {
+        Validation validation = new Validation(Type.DANGER, "");
+        JTextField c = new JTextField();
+        c.setBorder(ValidatorBorder.getBorder(validation, c.getBorder(), c.getFont().getSize()));
+        c.setSize(200, 30);
+        BufferedImage image = new BufferedImage(200, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        c.getBorder().paintBorder(c, g, 0, 0, 200, 30);
+        g.dispose();
+        int rgb = validation.getColor().getRGB();
+        boolean found = false;
+        for (int x = 100; x < 200 && !found; x++) {
+            for (int y = 0; y < 30 && !found; y++) {
+                found = image.getRGB(x, y) == rgb;
+            }
+        }
+        assertTrue(found, "icon painted in " + new Color(rgb));
+        assertTrue(c.getBorder().getBorderInsets(c).right > 0);
+    }
+}
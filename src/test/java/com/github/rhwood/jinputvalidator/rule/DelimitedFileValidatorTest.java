@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link DelimitedFileValidator} against temporary delimited files.
+ *
+ * @author Randall Wood
+ */
+class DelimitedFileValidatorTest {
+
+    private static final RuleResult NOT_A_NUMBER = new RuleResult(Severity.DANGER, "not a number");
+    private static final RuleResult EMPTY = new RuleResult(Severity.WARNING, "empty");
+
+    private static List<FieldRule<? super DelimitedRecord>> rules() {
+        return Arrays.asList(
+                FieldRule.of("id", (DelimitedRecord r) -> r.get(0), Rule.of(DelimitedFileValidatorTest::isDigits, NOT_A_NUMBER)),
+                FieldRule.of("name", (DelimitedRecord r) -> r.get(1), Rule.of((CharSequence s) -> s.length() > 0, EMPTY)));
+    }
+
+    private static boolean isDigits(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return s.length() > 0;
+    }
+
+    private static Path write(String contents) throws IOException {
+        Path file = Files.createTempFile("jinputvalidator", ".csv");
+        Files.write(file, contents.getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    @Test
+    void testValidate() throws IOException {
+        Path file = write("id,name\r\n1,a\r\nx,b\r\n\r\n3,\r\n4");
+        try {
+            DelimitedFileReport report = new DelimitedFileValidator(rules(), ',', true).validate(file);
+            assertEquals(4, report.getRecordCount());
+            assertEquals(3, report.getFailureCount());
+            assertFalse(report.isValid());
+            List<Failure> failures = report.getFailures();
+            assertEquals(3, failures.size());
+            assertEquals(1, failures.get(0).getRecordIndex());
+            assertEquals(3, failures.get(0).getLineNumber());
+            assertEquals("id", failures.get(0).getField());
+            assertSame(NOT_A_NUMBER, failures.get(0).getResult());
+            assertEquals(2, failures.get(1).getRecordIndex());
+            assertEquals(5, failures.get(1).getLineNumber());
+            assertEquals("name", failures.get(1).getField());
+            // missing field is empty
+            assertEquals(3, failures.get(2).getRecordIndex());
+            assertEquals(6, failures.get(2).getLineNumber());
+            assertEquals("name", failures.get(2).getField());
+            assertEquals(1, report.getSummaries().get(0).getFailureCount());
+            assertEquals(1, report.getSummaries().get(0).getCount(Severity.DANGER));
+            assertEquals(2, report.getSummaries().get(1).getCount(Severity.WARNING));
+            assertEquals("name: WARNING=2", report.getSummaries().get(1).toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testValidateInParts() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            contents.append(i % 100 == 7 ? "x" : Integer.toString(i)).append('\t').append("name").append('\n');
+        }
+        Path file = write(contents.toString());
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            DelimitedFileReport report = new DelimitedFileValidator(rules(), '\t', false, 50, pool, 64)
+                    .validate(file);
+            assertEquals(10_000, report.getRecordCount());
+            assertEquals(100, report.getFailureCount());
+            assertEquals(50, report.getFailures().size());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i * 100 + 7, report.getFailures().get(i).getRecordIndex());
+                assertEquals(i * 100 + 8, report.getFailures().get(i).getLineNumber());
+            }
+            assertEquals(100, report.getSummaries().get(0).getFailureCount());
+            assertEquals(0, report.getSummaries().get(1).getFailureCount());
+        } finally {
+            pool.shutdown();
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testEmptyHeader() throws IOException {
+        Path file = write("\n1,a\n\nx,b\n");
+        try {
+            DelimitedFileReport report = new DelimitedFileValidator(rules(), ',', true).validate(file);
+            assertEquals(2, report.getRecordCount());
+            assertEquals(1, report.getFailureCount());
+            assertEquals(1, report.getFailures().get(0).getRecordIndex());
+            assertEquals(4, report.getFailures().get(0).getLineNumber());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Path file = write("");
+        try {
+            DelimitedFileReport report = new DelimitedFileValidator(rules(), ',', true).validate(file);
+            assertEquals(0, report.getRecordCount());
+            assertTrue(report.isValid());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testFieldViews() throws IOException {
+        Path file = write("abc,d\u00e9f");
+        try {
+            StringBuilder copied = new StringBuilder();
+            new DelimitedFileValidator(Arrays.asList(new FieldRule<>("f", (DelimitedRecord r) -> {
+                assertEquals(2, r.size());
+                copied.append(r.get(0).subSequence(1, 3)).append('|').append(r.get(1));
+                assertEquals('\u00e9', r.get(1).charAt(1));
+                assertEquals("", r.get(2).toString());
+                return RuleResult.NONE;
+            })), ',', false).validate(file);
+            assertEquals("bc|d\u00e9f", copied.toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testInvalidDelimiter() {
+        assertThrows(IllegalArgumentException.class, () -> new DelimitedFileValidator(rules(), '\n', false));
+        assertThrows(IllegalArgumentException.class, () -> new DelimitedFileValidator(rules(), '\u00e9', false));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures the throughput of {@link RecordValidator}. This is not run as a
+ * test; run the main method with the test classpath.
+ *
+ * @author Randall Wood
+ */
+public final class RecordValidatorBenchmark {
+
+    private static final int RECORDS = 10_000_000;
+    private static final int ROUNDS = 5;
+
+    private RecordValidatorBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        List<FieldRule<? super String[]>> rules = Arrays.asList(
+                FieldRule.of("sku", (String[] r) -> r[0],
+                        Rule.of((String s) -> s.matches("[A-Z]{3}-\\d{4}"),
+                                new RuleResult(Severity.DANGER, "bad sku"))),
+                FieldRule.of("name", (String[] r) -> r[1],
+                        Rule.of((CharSequence s) -> s.length() > 0 && s.length() <= 40,
+                                new RuleResult(Severity.WARNING, "bad name"))),
+                FieldRule.of("quantity", (String[] r) -> r[2],
+                        Rule.of(RecordValidatorBenchmark::isDigits,
+                                new RuleResult(Severity.DANGER, "bad quantity"))));
+        String[][] records = new String[1000][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new String[]{
+                i == 0 ? "bad" : String.format("ABC-%04d", i), "name " + i, Integer.toString(i)};
+        }
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            run("1 thread", new RecordValidator<>(rules, single, RecordValidator.DEFAULT_BATCH_SIZE, 4),
+                    records, 1);
+        } finally {
+            single.shutdown();
+        }
+        run(ForkJoinPool.getCommonPoolParallelism() + " threads", new RecordValidator<>(rules), records,
+                ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    private static void run(String name, RecordValidator<String[]> validator, String[][] records, int threads) {
+        for (int round = 0; round < ROUNDS; round++) {
+            AtomicLong failures = new AtomicLong();
+            Stream<String[]> source = LongStream.range(0, RECORDS).mapToObj(i -> records[(int) (i % records.length)]);
+            long start = System.nanoTime();
+            validator.validate(source).forEach(f -> failures.incrementAndGet());
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%s: %,.0f records/s (%,.0f records/s/thread), %d failures%n",
+                    name, RECORDS / seconds, RECORDS / seconds / threads, failures.get());
+        }
+    }
+
+    private static boolean isDigits(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return s.length() > 0;
+    }
+}
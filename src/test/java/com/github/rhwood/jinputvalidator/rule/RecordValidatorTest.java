@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link RecordValidator} validating records in parallel with
+ * backpressure.
+ *
+ * @author Randall Wood
+ */
+class RecordValidatorTest {
+
+    private static final RuleResult NOT_A_NUMBER = new RuleResult(Severity.DANGER, "not a number");
+    private static final RuleResult EMPTY = new RuleResult(Severity.WARNING, "empty");
+
+    private static List<FieldRule<? super String[]>> rules() {
+        return Arrays.asList(
+                FieldRule.of("id", (String[] r) -> r[0], Rule.of((String s) -> s.matches("\\d+"), NOT_A_NUMBER)),
+                FieldRule.of("name", (String[] r) -> r[1], Rule.of((CharSequence s) -> s.length() > 0, EMPTY)),
+                // informative results are not failures
+                new FieldRule<>("info", (String[] r) -> new RuleResult(Severity.INFORMATION, "info")));
+    }
+
+    @Test
+    void testValidateStream() {
+        RecordValidator<String[]> v = new RecordValidator<>(rules());
+        Stream<String[]> records = LongStream.range(0, 10_000)
+                .mapToObj(i -> new String[]{i % 1000 == 1 ? "x" : Long.toString(i), i == 5000 ? "" : "n"});
+        List<Failure> failures = v.validate(records).collect(Collectors.toList());
+        assertEquals(11, failures.size());
+        assertEquals(1, failures.get(0).getRecordIndex());
+        assertEquals("id", failures.get(0).getField());
+        assertEquals(Severity.DANGER, failures.get(0).getType());
+        assertEquals("not a number", failures.get(0).getMessage());
+        assertEquals(5000, failures.get(5).getRecordIndex());
+        assertEquals("name", failures.get(5).getField());
+        assertSame(EMPTY, failures.get(5).getResult());
+        long previous = -1;
+        for (Failure f : failures) {
+            assertTrue(f.getRecordIndex() > previous);
+            previous = f.getRecordIndex();
+        }
+    }
+
+    @Test
+    void testValidateConsumer() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            RecordValidator<String[]> v = new RecordValidator<>(rules(), executor, 7, 2);
+            List<Failure> failures = new ArrayList<>();
+            List<String[]> records = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                records.add(new String[]{i % 10 == 0 ? "" : "1", ""});
+            }
+            assertEquals(100, v.validate(records.iterator(), failures::add));
+            assertEquals(110, failures.size());
+            assertEquals(0, failures.get(0).getRecordIndex());
+            assertEquals("id", failures.get(0).getField());
+            assertEquals(0, failures.get(1).getRecordIndex());
+            assertEquals("name", failures.get(1).getField());
+            assertEquals(99, failures.get(109).getRecordIndex());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBackpressure() {
+        AtomicInteger read = new AtomicInteger();
+        Iterator<String[]> source = new Iterator<String[]>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String[] next() {
+                read.incrementAndGet();
+                return new String[]{"x", "n"};
+            }
+        };
+        RecordValidator<String[]> v = new RecordValidator<>(rules(), Runnable::run, 10, 3);
+        Iterator<Failure> failures = v.validate(source);
+        assertEquals(0, read.get());
+        assertEquals(0, failures.next().getRecordIndex());
+        // no more than the maximum batches are read ahead
+        assertEquals(30, read.get());
+        for (int i = 0; i < 10; i++) {
+            failures.next();
+        }
+        assertEquals(40, read.get());
+    }
+
+    @Test
+    void testRuleException() {
+        RecordValidator<String> v = new RecordValidator<>(Arrays.asList(
+                new FieldRule<>("f", (String s) -> {
+                    throw new IllegalArgumentException(s);
+                })));
+        Iterator<Failure> failures = v.validate(Arrays.asList("a").iterator());
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, failures::hasNext);
+        assertEquals("a", ex.getMessage());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RecordValidator<>(rules(), Runnable::run, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RecordValidator<>(rules(), Runnable::run, 1, 0));
+    }
+}
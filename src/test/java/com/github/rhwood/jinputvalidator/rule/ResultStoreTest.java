@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ResultStore} validating records and merging stores.
+ *
+ * @author Randall Wood
+ */
+class ResultStoreTest {
+
+    private static final RuleResult NOT_A_NUMBER = new RuleResult(Severity.DANGER, "not a number");
+
+    private static List<FieldRule<? super String>> rules() {
+        return Arrays.asList(
+                FieldRule.of("number", (String s) -> s, Rule.of((String s) -> s.matches("\\d+"), NOT_A_NUMBER)),
+                new FieldRule<>("length", (String s) -> s.length() > 3
+                        ? new RuleResult(Severity.WARNING, "too long: " + s)
+                        : RuleResult.NONE));
+    }
+
+    @Test
+    void testValidate() {
+        ResultStore<String> store = new ResultStore<>(rules());
+        String[] records = {"1", "x", "1234", "abcd", "2"};
+        for (int i = 0; i < records.length; i++) {
+            assertEquals(i % 4 == 0, store.validate(i, records[i]));
+        }
+        assertEquals(5, store.size());
+        assertEquals(Severity.NONE, store.getType(0, 0));
+        assertEquals(Severity.DANGER, store.getType(0, 1));
+        assertSame(NOT_A_NUMBER, store.getResult(0, 3));
+        assertSame(RuleResult.NONE, store.getResult(0, 4));
+        // first result of type, and exact result from the record
+        assertEquals("too long: 1234", store.getResult(1, 3).getMessage());
+        assertEquals("too long: abcd", store.getResult(1, 3, records[3]).getMessage());
+        assertSame(RuleResult.NONE, store.getResult(1, 0, records[0]));
+        assertEquals(2, store.getCount(0, Severity.DANGER));
+        assertEquals(3, store.getCount(0, Severity.NONE));
+        assertEquals(2, store.getCount(1, Severity.WARNING));
+        assertEquals(0, store.getCount(1, Severity.SUCCESS));
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3);
+        assertEquals(expected, store.getFailures(0));
+        expected.set(2);
+        assertEquals(expected, store.getFailures());
+        assertThrows(IllegalArgumentException.class, () -> store.getRows(0, Severity.NONE));
+    }
+
+    @Test
+    void testTypeRanking() {
+        ResultStore<String> store = new ResultStore<>(rules());
+        store.set(0, 0, new RuleResult(Severity.SUCCESS, "valid"));
+        store.set(0, 0, new RuleResult(Severity.UNKNOWN, "unknown"));
+        store.set(0, 0, new RuleResult(Severity.INFORMATION, "information"));
+        assertEquals(Severity.UNKNOWN, store.getType(0, 0));
+        store.set(0, 0, new RuleResult(Severity.WARNING, "warning"));
+        assertEquals(Severity.WARNING, store.getType(0, 0));
+        for (int i = 1; i < Severity.values().length; i++) {
+            assertTrue(Severity.values()[i].getRank() > Severity.values()[i - 1].getRank());
+        }
+    }
+
+    @Test
+    void testMergeParallel() {
+        int rows = 100_000;
+        int workers = 4;
+        int chunk = rows / workers;
+        List<ResultStore<String>> partial = IntStream.range(0, workers)
+                .mapToObj(w -> CompletableFuture.supplyAsync(() -> {
+                    ResultStore<String> store = new ResultStore<>(rules());
+                    for (int i = 0; i < chunk; i++) {
+                        int row = w * chunk + i;
+                        store.validate(i, row % 1000 == 0 ? "x" : "1");
+                    }
+                    return store;
+                }))
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        ResultStore<String> store = new ResultStore<>(rules());
+        for (int w = 0; w < workers; w++) {
+            store.merge(partial.get(w), w * chunk);
+        }
+        assertEquals(rows, store.size());
+        assertEquals(100, store.getCount(0, Severity.DANGER));
+        assertEquals(Severity.DANGER, store.getType(0, 75_000));
+        assertEquals(Severity.NONE, store.getType(0, 75_001));
+        assertSame(NOT_A_NUMBER, store.getResult(0, 99_000));
+        // 100 failed rows take far less memory than a result per row
+        assertTrue(store.getEstimatedBytes() < rows / 4);
+        ResultStore<String> copy = new ResultStore<>(rules());
+        copy.merge(store);
+        assertEquals(store.getFailures(), copy.getFailures());
+        assertEquals(rows, copy.size());
+    }
+
+    @Test
+    void testMergeDifferentRules() {
+        ResultStore<String> store = new ResultStore<>(rules());
+        assertThrows(IllegalArgumentException.class, () -> store.merge(new ResultStore<>(rules().subList(0, 1))));
+    }
+}
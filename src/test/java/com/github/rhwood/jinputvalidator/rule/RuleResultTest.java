@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link RuleResult} validity and equality.
+ *
+ * @author Randall Wood
+ */
+class RuleResultTest {
+
+    @Test
+    void testIsValid() {
+        assertTrue(RuleResult.NONE.isValid());
+        assertTrue(new RuleResult(Severity.UNKNOWN, null).isValid());
+        assertTrue(new RuleResult(Severity.INFORMATION, null).isValid());
+        assertTrue(new RuleResult(Severity.SUCCESS, null).isValid());
+        assertFalse(new RuleResult(Severity.WARNING, null).isValid());
+        assertFalse(new RuleResult(Severity.DANGER, null).isValid());
+    }
+
+    @Test
+    void testEquals() {
+        RuleResult r = new RuleResult(Severity.DANGER, "a");
+        assertEquals(r, new RuleResult(Severity.DANGER, "a"));
+        assertEquals(r.hashCode(), new RuleResult(Severity.DANGER, "a").hashCode());
+        assertNotEquals(r, new RuleResult(Severity.WARNING, "a"));
+        assertNotEquals(r, new RuleResult(Severity.DANGER, "b"));
+        assertNotEquals(r, new RuleResult(Severity.DANGER, null));
+        assertNotEquals(r, "a");
+        assertEquals(RuleResult.NONE, new RuleResult(Severity.NONE, null));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of creating {@link Rule}s and applying them without loading AWT.
+ *
+ * @author Randall Wood
+ */
+class RuleTest {
+
+    @Test
+    void testOf() {
+        RuleResult invalid = new RuleResult(Severity.DANGER, "not a number");
+        Rule<String> rule = Rule.of((String t) -> t.matches("\\d+"), invalid);
+        assertSame(RuleResult.NONE, rule.apply("123"));
+        assertSame(invalid, rule.apply("abc"));
+        RuleResult valid = new RuleResult(Severity.SUCCESS, "ok");
+        rule = Rule.of((String t) -> t.matches("\\d+"), valid, invalid);
+        assertSame(valid, rule.apply("123"));
+        assertSame(invalid, rule.apply("abc"));
+    }
+
+    @Test
+    void testCharSequenceRuleAppliesToString() {
+        Rule<CharSequence> rule = Rule.of((CharSequence t) -> t.length() > 0,
+                new RuleResult(Severity.WARNING, "empty"));
+        Rule<? super String> stringRule = rule;
+        assertTrue(stringRule.apply("a").isValid());
+        assertFalse(stringRule.apply("").isValid());
+        assertFalse(rule.apply(new StringBuilder()).isValid());
+    }
+
+    @Test
+    void testRuleDoesNotLoadAwt() throws Exception {
+        // isolated class loader that cannot load AWT or Swing classes
+        ClassLoader loader = new ClassLoader(null) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.startsWith("java.awt.") || name.startsWith("javax.swing.")
+                        || name.startsWith("java.util.prefs.")) {
+                    throw new ClassNotFoundException(name);
+                }
+                if (name.startsWith("com.github.rhwood.jinputvalidator.")) {
+                    synchronized (getClassLoadingLock(name)) {
+                        Class<?> c = findLoadedClass(name);
+                        if (c == null) {
+                            String resource = name.replace('.', '/') + ".class";
+                            try (java.io.InputStream in = RuleTest.class.getClassLoader()
+                                    .getResourceAsStream(resource)) {
+                                java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+                                byte[] buffer = new byte[4096];
+                                for (int n = in.read(buffer); n > 0; n = in.read(buffer)) {
+                                    out.write(buffer, 0, n);
+                                }
+                                byte[] bytes = out.toByteArray();
+                                c = defineClass(name, bytes, 0, bytes.length);
+                            } catch (java.io.IOException ex) {
+                                throw new ClassNotFoundException(name, ex);
+                            }
+                        }
+                        return c;
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        };
+        Class<?> headless = loader.loadClass(RuleTest.class.getName() + "$Headless");
+        Object result = headless.getMethod("run").invoke(null);
+        assertEquals("DANGER: invalid", result);
+    }
+
+    /**
+     * Uses rules with a class loader that cannot load AWT.
+     */
+    public static final class Headless {
+
+        public static String run() {
+            Rule<String> rule = Rule.of((String t) -> t.isEmpty(),
+                    new RuleResult(Severity.DANGER, "invalid"));
+            return rule.apply("a").toString();
+        }
+    }
+}
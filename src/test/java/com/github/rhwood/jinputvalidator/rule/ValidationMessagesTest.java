@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 Randall Wood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.rhwood.jinputvalidator.rule;
+
+import com.github.rhwood.jinputvalidator.Validation;
+import com.github.rhwood.jinputvalidator.Validation.Type;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ValidationMessages} formatting and locale changes with an
+ * in-memory bundle.
+ *
+ * @author Randall Wood
+ */
+class ValidationMessagesTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private ValidationMessages messages;
+
+    @BeforeEach
+    void setUp() {
+        messages = new ValidationMessages(this::load);
+        messages.setLocale(Locale.ENGLISH);
+    }
+
+    private ResourceBundle load(Locale locale) {
+        loads.incrementAndGet();
+        String pattern;
+        if (locale.equals(Locale.FRENCH)) {
+            pattern = "{0} caract\u00e8res au plus";
+        } else {
+            pattern = "At most {0} characters";
+        }
+        return new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][]{{"tooLong", pattern}, {"malformed", "At most {0"}};
+            }
+        };
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("At most 5 characters", messages.format("tooLong", 5));
+        assertEquals("At most 6 characters", messages.format("tooLong", 6));
+        assertEquals("missing", messages.format("missing"));
+        assertEquals(1, loads.get(), "bundle loaded once");
+        assertEquals(Locale.ENGLISH, messages.getLocale());
+    }
+
+    @Test
+    void testMissingAndMalformed() {
+        AtomicInteger errors = new AtomicInteger();
+        Logger logger = Logger.getLogger(ValidationMessages.class.getName());
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                errors.incrementAndGet();
+            }
+
+            @Override
+            public void flush() {
+                // nothing to flush
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+        logger.addHandler(handler);
+        try {
+            assertEquals("it's {missing}", messages.format("it's {missing}", 1));
+            assertEquals("it's {missing}", messages.format("it's {missing}", 2));
+            assertEquals(1, errors.get(), "missing key logged once");
+            assertEquals("malformed", messages.format("malformed", 1));
+            assertEquals("malformed", messages.format("malformed", 2));
+            assertEquals(2, errors.get(), "malformed pattern logged once");
+            messages.setLocale(Locale.FRENCH);
+            assertEquals("malformed", messages.format("malformed", 1));
+            assertEquals(3, errors.get(), "logged again for new locale");
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    void testLocaleChange() {
+        LocalizedMessage message = messages.message("tooLong", 5);
+        assertFalse(message.isCurrent());
+        assertEquals("At most 5 characters", message.get());
+        assertTrue(message.isCurrent());
+        assertEquals("At most 5 characters", message.get());
+        assertEquals(1, loads.get());
+        messages.setLocale(Locale.FRENCH);
+        assertFalse(message.isCurrent());
+        assertEquals("5 caract\u00e8res au plus", message.get());
+        assertEquals(2, loads.get());
+        messages.invalidate();
+        assertFalse(message.isCurrent());
+        assertEquals("5 caract\u00e8res au plus", message.get());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testDeferredResult() {
+        LocalizedMessage message = messages.message("tooLong", 5);
+        RuleResult result = RuleResult.deferred(Severity.WARNING, message);
+        assertEquals(result, RuleResult.deferred(Severity.WARNING, messages.message("tooLong", 5)));
+        assertNotEquals(result, RuleResult.deferred(Severity.WARNING, messages.message("tooLong", 6)));
+        assertFalse(result.isMessageResolved());
+        assertEquals(0, loads.get(), "comparing does not format");
+        assertEquals("At most 5 characters", result.getMessage());
+        assertTrue(result.isMessageResolved());
+        messages.setLocale(Locale.FRENCH);
+        assertFalse(result.isMessageResolved());
+        assertEquals("5 caract\u00e8res au plus", result.getMessage());
+    }
+
+    @Test
+    void testLocalizedValidation() {
+        Validation validation = Validation.localized(Type.DANGER, messages, "tooLong", 5);
+        assertEquals(validation, Validation.localized(Type.DANGER, messages, "tooLong", 5));
+        assertFalse(validation.isMessageResolved());
+        assertEquals("At most 5 characters", validation.getMessage());
+        messages.setLocale(Locale.FRENCH);
+        assertFalse(validation.isMessageResolved());
+        assertEquals("5 caract\u00e8res au plus", validation.getMessage());
+    }
+}